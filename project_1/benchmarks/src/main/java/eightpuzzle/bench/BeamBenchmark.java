@@ -0,0 +1,53 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle.bench;
+
+import eightpuzzle.Board;
+import eightpuzzle.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for beam search with several widths, one operation being a single solve
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules=jdk.incubator.vector"})
+public class BeamBenchmark {
+    //boards solved per invocation
+    private static final int N_BOARDS = 8;
+
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public Instances.Difficulty difficulty;
+
+    @Param({"10", "100", "500"})
+    public int beamWidth;
+
+    private Board[] boards;
+
+    @Setup
+    public void setup() {
+        boards = Instances.boards(difficulty, N_BOARDS, 20000);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N_BOARDS)
+    public void beamStats(Blackhole bh) {
+        for (Board b : boards) bh.consume(Solver.beamStats(beamWidth, b));
+    }
+}
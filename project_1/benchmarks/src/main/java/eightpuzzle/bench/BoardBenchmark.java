@@ -0,0 +1,89 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle.bench;
+
+import eightpuzzle.BatchHeuristics;
+import eightpuzzle.Board;
+import eightpuzzle.VectorHeuristics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the per-board operations used by every search
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules=jdk.incubator.vector"})
+public class BoardBenchmark {
+    //boards scored per invocation of the batch benchmarks
+    private static final int BATCH = 1024;
+
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public Instances.Difficulty difficulty;
+
+    private Board[] boards;
+    private long[] packed;
+    private int[] scores;
+
+    @Setup
+    public void setup() {
+        boards = Instances.boards(difficulty, BATCH, 10000);
+        packed = Instances.packed(difficulty, BATCH);
+        scores = new int[BATCH];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void getChildren(Blackhole bh) {
+        for (Board b : boards) bh.consume(b.getChildren());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void manhattanDistance(Blackhole bh) {
+        for (Board b : boards) bh.consume(b.manhattanDistance());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] batchManhattan() {
+        BatchHeuristics.manhattan(packed, BATCH, scores);
+        return scores;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] batchManhattanScalar() {
+        BatchHeuristics.scalarManhattan(packed, 0, BATCH, scores);
+        return scores;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] batchManhattanVector() {
+        VectorHeuristics.manhattan(packed, BATCH, scores);
+        return scores;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] batchMisplaced() {
+        BatchHeuristics.misplaced(packed, BATCH, scores);
+        return scores;
+    }
+}
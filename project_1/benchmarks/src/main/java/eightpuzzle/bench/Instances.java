@@ -0,0 +1,53 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle.bench;
+
+import eightpuzzle.Board;
+import eightpuzzle.BoardGenerator;
+
+/**
+ * Fixed sets of boards for the benchmarks, grouped by difficulty (measured by h2).  The same seed is always used, so
+ * every run measures the same boards
+ */
+public class Instances {
+    private static final long SEED = 391L;
+
+    /**
+     * Difficulty groups, as a range of the sum of Manhattan distances
+     */
+    public enum Difficulty {
+        EASY(6, 10), MEDIUM(12, 16), HARD(18, 22);
+
+        private final int minH2;
+        private final int maxH2;
+
+        Difficulty(int minH2, int maxH2) {
+            this.minH2 = minH2;
+            this.maxH2 = maxH2;
+        }
+    }
+
+    /**
+     * @param difficulty group to take boards from
+     * @param n          number of boards
+     * @param maxNodes   maximum number of nodes a search may visit from each board
+     * @return the first n boards of the group
+     */
+    public static Board[] boards(Difficulty difficulty, int n, int maxNodes) {
+        BoardGenerator generator = new BoardGenerator(SEED, difficulty.minH2, difficulty.maxH2);
+        Board[] out = new Board[n];
+        for (int i = 0; i < n; i++) {
+            out[i] = generator.nextBoard();
+            out[i].setMaxNodes(maxNodes);
+        }
+        return out;
+    }
+
+    /**
+     * @return the first n boards of the group in packed form
+     */
+    public static long[] packed(Difficulty difficulty, int n) {
+        long[] out = new long[n];
+        new BoardGenerator(SEED, difficulty.minH2, difficulty.maxH2).fill(out);
+        return out;
+    }
+}
@@ -1,4 +1,5 @@
 //Nikil Pancha (nrp49)
+package eightpuzzle;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -7,11 +8,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Map;
 
 /**
  * Class containing the command line interface to manipulate an 8-puzzle
  */
 public class App {
+    //A* search kept between solves in this session, so later solves continue it
+    private static final SolutionCache CACHE = new SolutionCache();
 
     /**
      * For some reason I was unable pipe commands from a text file into this, but if the file is given as an argument, it will be read properly
@@ -95,15 +99,45 @@ public class App {
                     System.out.println("Please enter a valid move");
                 }
             } else if (commands[0].equals("solve")) {
-                if (commands.length != 3) {
+                if (commands.length >= 2 && commands[1].equals("auto")) {
+                    if (commands.length == 2 || (commands.length == 3 && commands[2].equals("optimal"))) {
+                        Portfolio.Result r = Portfolio.solveStats(b, commands.length == 3);
+                        if (r == null) {
+                            System.out.println("No solution was found");
+                        } else {
+                            System.out.println(r.pair.s);
+                            System.out.println("Found by " + r.strategy);
+                        }
+                    } else {
+                        System.out.println("Please enter a valid option");
+                    }
+                } else if (commands.length == 4 && commands[1].equals("A-star")) {
+                    if (!commands[2].equals("h1") && !commands[2].equals("h2")) {
+                        System.out.println("Please enter a valid heuristic");
+                    } else if (commands[3].equals("offheap")) {
+                        if (!Solver.OFF_HEAP_AVAILABLE) {
+                            System.out.println("Off heap search needs java --enable-preview, searching on the heap instead");
+                        }
+                        System.out.println(Solver.aStar(commands[2], b, true));
+                    } else {
+                        System.out.println("Please enter a valid option");
+                    }
+                } else if (commands.length != 3) {
                     System.out.println("Please enter required arguments");
                 } else if (commands[1].equals("A-star")) {
                     if (commands[2].equals("h1") || commands[2].equals("h2")) {
-                        String soln = Solver.aStar(commands[2], b);
+                        Experiments.Pair p = CACHE.solve(commands[2], b);
+                        String soln = p.i == -1 ? "No Solution was Found" : p.s;
                         System.out.println(soln);
                     } else {
                         System.out.println("Please enter a valid heuristic");
                     }
+                } else if (commands[1].equals("IDA-star")) {
+                    if (commands[2].equals("h1") || commands[2].equals("h2")) {
+                        System.out.println(Solver.idaStar(commands[2], b));
+                    } else {
+                        System.out.println("Please enter a valid heuristic");
+                    }
                 } else if (commands[1].equals("beam")) {
                     try {
                         int k = Integer.parseInt(commands[2]);
@@ -118,6 +152,12 @@ public class App {
                 } else {
                     System.out.println("Please enter a valid search method");
                 }
+            } else if (commands[0].equals("portfolioStats")) {
+                //number of times each strategy has won a solve auto race this session
+                Map<String, Integer> wins = Portfolio.getWins();
+                for (String strategy : Portfolio.STRATEGIES) {
+                    System.out.println(strategy + ":  " + wins.getOrDefault(strategy, 0));
+                }
             } else if (commands[0].equals("maxNodes")) {
                 if (commands.length == 2) {
                     try {
@@ -0,0 +1,81 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+/**
+ * Class to compute the heuristics for many packed states at once, with either a table lookup or the Vector API
+ * (VectorHeuristics).  The table lookup is used unless the system property eightpuzzle.batch is set to vector and the
+ * jdk.incubator.vector module is loaded.  The Vector API version is slower than the table lookup on the machines it
+ * has been measured on, so only turn it on where BoardBenchmark.batchManhattanVector beats batchManhattanScalar
+ */
+public class BatchHeuristics {
+    //true if the Vector API versions are used
+    public static final boolean VECTORIZED = System.getProperty("eightpuzzle.batch", "").equals("vector")
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    //MANHATTAN[16 * piece + square] is the distance of piece from its goal square when it is on square
+    private static final int[] MANHATTAN = new int[16 * 9];
+
+    static {
+        for (int piece = 1; piece < 9; piece++)
+            for (int square = 0; square < 9; square++)
+                MANHATTAN[16 * piece + square] = Math.abs(square / 3 - piece / 3) + Math.abs(square % 3 - piece % 3);
+    }
+
+    /**
+     * Computes the sum of Manhattan distances (h2) of a batch of states
+     *
+     * @param states packed states created by Board.pack()
+     * @param n      number of states to score, starting from index 0
+     * @param out    array to store h2 of states[i] in out[i]
+     */
+    public static void manhattan(long[] states, int n, int[] out) {
+        if (VECTORIZED) VectorHeuristics.manhattan(states, n, out);
+        else scalarManhattan(states, 0, n, out);
+    }
+
+    /**
+     * Computes the number of misplaced tiles (h1) of a batch of states
+     *
+     * @param states packed states created by Board.pack()
+     * @param n      number of states to score, starting from index 0
+     * @param out    array to store h1 of states[i] in out[i]
+     */
+    public static void misplaced(long[] states, int n, int[] out) {
+        if (VECTORIZED) VectorHeuristics.misplaced(states, n, out);
+        else scalarMisplaced(states, 0, n, out);
+    }
+
+    /**
+     * Computes the sum of Manhattan distances (h2) of a single state
+     *
+     * @param state packed state created by Board.pack()
+     * @return value of h2 for the state
+     */
+    public static int manhattan(long state) {
+        int total = 0;
+        for (int piece = 1; piece < 9; piece++)
+            total += MANHATTAN[16 * piece + (int) ((state >>> (4 * piece)) & 0xF)];
+        return total;
+    }
+
+    /**
+     * Computes h2 for states[from] up to (not including) states[to] without the Vector API
+     */
+    public static void scalarManhattan(long[] states, int from, int to, int[] out) {
+        for (int i = from; i < to; i++) out[i] = manhattan(states[i]);
+    }
+
+    /**
+     * Computes h1 for states[from] up to (not including) states[to] without the Vector API
+     */
+    public static void scalarMisplaced(long[] states, int from, int to, int[] out) {
+        for (int i = from; i < to; i++) {
+            //xor with the goal leaves a nonzero nibble for every piece that is not on its goal square
+            long diff = (states[i] ^ Board.GOALPACKED) >>> 4;
+            int total = 0;
+            for (; diff != 0; diff >>>= 4)
+                if ((diff & 0xF) != 0) total++;
+            out[i] = total;
+        }
+    }
+}
@@ -1,4 +1,6 @@
 //Nikil Pancha (nrp49)
+package eightpuzzle;
+
 import java.util.*;
 
 /**
@@ -22,6 +24,8 @@ public class Board {
     private static final List<Integer> GOALCOLS = Arrays.asList(0, 1, 2, 0, 1, 2, 0, 1, 2);
     //desired final positions
     public static final List<Integer> GOALPOSITIONS = Arrays.asList(0b1, 0b10, 0b100, 0b1000, 0b10000, 0b100000, 0b1000000, 0b10000000, 0b100000000);
+    //desired final positions in packed form (see pack())
+    public static final long GOALPACKED = 0x876543210L;
 
     /**
      * Constructor to initialize a board in the solved state
@@ -284,6 +288,58 @@ public class Board {
         return out;
     }
 
+    /**
+     * Packs the board into a long, with 4 bits per piece holding the index (0-8) of the square it occupies.
+     * The blank is stored in the lowest 4 bits, piece 1 in the next 4, and so on
+     *
+     * @return packed representation of the current state
+     */
+    public long pack() {
+        long packed = 0;
+        for (int i = 0; i < pieces.size(); i++)
+            packed |= (long) Integer.numberOfTrailingZeros(pieces.get(i)) << (4 * i);
+        return packed;
+    }
+
+    /**
+     * Creates a board from a packed state
+     *
+     * @param packed state created by pack()
+     * @return new board in the given state
+     */
+    public static Board unpack(long packed) {
+        List<Integer> newPieces = new ArrayList<>(9);
+        for (int i = 0; i < 9; i++)
+            newPieces.add(1 << (int) ((packed >>> (4 * i)) & 0xF));
+        Board b = new Board();
+        b.setState(newPieces);
+        return b;
+    }
+
+    /**
+     * Applies a move to a packed state without creating a board
+     *
+     * @param packed state created by pack()
+     * @param move   move to apply (u,d,l,r)
+     * @return the packed state after the move, or -1 if the move is not possible
+     */
+    public static long packedMove(long packed, char move) {
+        int blank = (int) (packed & 0xF);
+        int target;
+        if (move == 'l' && blank % 3 != 0) target = blank - 1;
+        else if (move == 'r' && blank % 3 != 2) target = blank + 1;
+        else if (move == 'u' && blank > 2) target = blank - 3;
+        else if (move == 'd' && blank < 6) target = blank + 3;
+        else return -1;
+
+        //find the piece on the target square and swap it with the blank
+        for (int i = 4; i < 36; i += 4) {
+            if (((packed >>> i) & 0xF) == target)
+                return (packed & ~(0xFL << i) & ~0xFL) | ((long) blank << i) | target;
+        }
+        return -1;
+    }
+
     /**
      * @return current path cost
      */
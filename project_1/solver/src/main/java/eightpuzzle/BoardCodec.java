@@ -0,0 +1,210 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Class to read and write boards and solutions in a compact binary form, directly to and from ByteBuffers.
+ * An 8-puzzle state is written as its rank among all 9! arrangements (19 bits), a 15-puzzle state as 16 four bit
+ * squares in a long, and moves as 2 bits each
+ */
+public class BoardCodec {
+    //bytes used by putState (the 19 bit rank rounded up)
+    public static final int STATE_BYTES = 3;
+    //bits used by each state in putStates
+    public static final int STATE_BITS = 19;
+    //moves in the order of their 2 bit codes
+    private static final String MOVES = "lrud";
+
+    /**
+     * Finds the lexicographic rank of an arrangement (the inverse of BoardGenerator.unrank)
+     *
+     * @param packed state created by Board.pack()
+     * @return number from 0 to 9! - 1
+     */
+    public static int rank(long packed) {
+        int rank = 0;
+        int free = 0x1FF; //squares that have not been used yet
+        for (int piece = 0; piece < 9; piece++) {
+            int square = (int) ((packed >>> (4 * piece)) & 0xF);
+            //number of free squares before this one
+            rank += Integer.bitCount(free & ((1 << square) - 1)) * BoardGenerator.FACTORIALS[8 - piece];
+            free &= ~(1 << square);
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the rank of a state after checking that it puts the 9 pieces on different squares from 0 to 8
+     *
+     * @param packed state created by Board.pack()
+     * @return number from 0 to 9! - 1
+     * @throws IllegalArgumentException if packed is not a valid 8-puzzle state
+     */
+    private static int checkedRank(long packed) throws IllegalArgumentException {
+        int used = 0;
+        for (int piece = 0; piece < 9; piece++) used |= 1 << (int) ((packed >>> (4 * piece)) & 0xF);
+        if (used != 0x1FF || packed >>> 36 != 0) {
+            throw new IllegalArgumentException(Long.toHexString(packed) + " is not a valid 8-puzzle state");
+        }
+        return rank(packed);
+    }
+
+    /**
+     * Writes an 8-puzzle state in STATE_BYTES bytes
+     *
+     * @param buffer buffer to write to
+     * @param packed state created by Board.pack()
+     * @throws IllegalArgumentException if packed is not a valid 8-puzzle state
+     * @throws BufferOverflowException  if there is not enough room in the buffer
+     */
+    public static void putState(ByteBuffer buffer, long packed) throws IllegalArgumentException, BufferOverflowException {
+        int rank = checkedRank(packed);
+        buffer.put((byte) (rank >>> 16)).putShort((short) rank);
+    }
+
+    /**
+     * Reads an 8-puzzle state written by putState
+     *
+     * @param buffer buffer to read from
+     * @return packed state
+     */
+    public static long getState(ByteBuffer buffer) {
+        int rank = (buffer.get() & 0xFF) << 16 | (buffer.getShort() & 0xFFFF);
+        return BoardGenerator.unrank(rank);
+    }
+
+    /**
+     * Writes n 8-puzzle states using STATE_BITS bits each, padded to a whole number of bytes at the end
+     *
+     * @param buffer buffer to write to
+     * @param states packed states created by Board.pack()
+     * @param n      number of states to write, starting from index 0
+     * @throws IllegalArgumentException if any of the states is not a valid 8-puzzle state
+     * @throws BufferOverflowException  if there is not enough room in the buffer
+     */
+    public static void putStates(ByteBuffer buffer, long[] states, int n) throws IllegalArgumentException, BufferOverflowException {
+        long bits = 0;
+        int nBits = 0;
+        for (int i = 0; i < n; i++) {
+            bits = (bits << STATE_BITS) | checkedRank(states[i]);
+            nBits += STATE_BITS;
+            for (; nBits >= 8; nBits -= 8) buffer.put((byte) (bits >>> (nBits - 8)));
+        }
+        if (nBits > 0) buffer.put((byte) (bits << (8 - nBits)));
+    }
+
+    /**
+     * Reads n 8-puzzle states written by putStates
+     *
+     * @param buffer buffer to read from
+     * @param out    array to store the packed states in, starting from index 0
+     * @param n      number of states to read
+     */
+    public static void getStates(ByteBuffer buffer, long[] out, int n) {
+        long bits = 0;
+        int nBits = 0;
+        for (int i = 0; i < n; i++) {
+            for (; nBits < STATE_BITS; nBits += 8) bits = (bits << 8) | (buffer.get() & 0xFF);
+            nBits -= STATE_BITS;
+            out[i] = BoardGenerator.unrank((int) ((bits >>> nBits) & ((1 << STATE_BITS) - 1)));
+        }
+    }
+
+    /**
+     * @param n number of states
+     * @return the number of bytes putStates uses for n states
+     */
+    public static int statesBytes(int n) {
+        return (int) (((long) n * STATE_BITS + 7) / 8);
+    }
+
+    /**
+     * Writes a 15-puzzle state as a single long
+     *
+     * @param buffer buffer to write to
+     * @param packed state with 4 bits per piece holding its square (0-15), blank first
+     * @throws IllegalArgumentException if the squares are not all different
+     * @throws BufferOverflowException  if there is not enough room in the buffer
+     */
+    public static void putState16(ByteBuffer buffer, long packed) throws IllegalArgumentException, BufferOverflowException {
+        int used = 0;
+        for (int piece = 0; piece < 16; piece++) used |= 1 << (int) ((packed >>> (4 * piece)) & 0xF);
+        if (used != 0xFFFF) {
+            throw new IllegalArgumentException(Long.toHexString(packed) + " is not a valid 15-puzzle state");
+        }
+        buffer.putLong(packed);
+    }
+
+    /**
+     * Reads a 15-puzzle state written by putState16
+     *
+     * @param buffer buffer to read from
+     * @return packed state
+     */
+    public static long getState16(ByteBuffer buffer) {
+        return buffer.getLong();
+    }
+
+    /**
+     * Writes a sequence of moves as its length (an unsigned short) followed by 2 bits per move
+     *
+     * @param buffer buffer to write to
+     * @param moves  String of moves (u,d,l,r)
+     * @throws IllegalArgumentException if moves has an invalid move or more than 65535 moves
+     * @throws BufferOverflowException  if there is not enough room in the buffer
+     */
+    public static void putMoves(ByteBuffer buffer, CharSequence moves) throws IllegalArgumentException, BufferOverflowException {
+        if (moves.length() > 0xFFFF) {
+            throw new IllegalArgumentException("At most 65535 moves can be written");
+        }
+        buffer.putShort((short) moves.length());
+        int bits = 0;
+        for (int i = 0; i < moves.length(); i++) {
+            int code = MOVES.indexOf(moves.charAt(i));
+            if (code < 0) {
+                throw new IllegalArgumentException(moves.charAt(i) + " is not a valid move at position " + i);
+            }
+            bits = (bits << 2) | code;
+            if (i % 4 == 3) buffer.put((byte) bits);
+        }
+        if (moves.length() % 4 != 0) buffer.put((byte) (bits << (2 * (4 - moves.length() % 4))));
+    }
+
+    /**
+     * Reads a sequence of moves written by putMoves
+     *
+     * @param buffer buffer to read from
+     * @return String of moves (u,d,l,r)
+     */
+    public static String getMoves(ByteBuffer buffer) {
+        StringBuilder sb = new StringBuilder();
+        getMoves(buffer, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Reads a sequence of moves written by putMoves into an existing builder, so a single builder can be reused
+     * for many records
+     *
+     * @param buffer buffer to read from
+     * @param out    builder to append the moves to
+     */
+    public static void getMoves(ByteBuffer buffer, StringBuilder out) {
+        int length = buffer.getShort() & 0xFFFF;
+        int bits = 0;
+        for (int i = 0; i < length; i++) {
+            if (i % 4 == 0) bits = buffer.get() & 0xFF;
+            out.append(MOVES.charAt((bits >>> (6 - 2 * (i % 4))) & 0b11));
+        }
+    }
+
+    /**
+     * @param nMoves number of moves
+     * @return the number of bytes putMoves uses for nMoves moves
+     */
+    public static int movesBytes(int nMoves) {
+        return Short.BYTES + (nMoves + 3) / 4;
+    }
+}
@@ -0,0 +1,175 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Class to quickly generate solvable states, each equally likely.  A random index into all 9! arrangements is
+ * unranked into a state, and half of the arrangements (the unsolvable ones) are mapped onto the other half by swapping
+ * pieces 1 and 2.  Generators are reproducible from their seed and can be split to give each thread its own
+ */
+public class BoardGenerator {
+    //number of arrangements of the pieces, solvable or not
+    private static final int N_ARRANGEMENTS = 362880;
+    //FACTORIALS[i] = i!
+    static final int[] FACTORIALS = {1, 1, 2, 6, 24, 120, 720, 5040, 40320};
+    //largest h2 of any solvable state
+    public static final int MAX_H2 = 22;
+    //number of states generated per task by generate
+    private static final int CHUNK = 1 << 16;
+
+    private final SplittableRandom random;
+    //only states with h2 in [minH2, maxH2] are generated
+    private final int minH2;
+    private final int maxH2;
+
+    /**
+     * @param seed seed for the random number generator
+     */
+    public BoardGenerator(long seed) {
+        this(new SplittableRandom(seed), 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a generator that only returns states within a range of difficulty (measured by h2).  States in the range
+     * are still equally likely
+     *
+     * @param seed  seed for the random number generator
+     * @param minH2 smallest sum of Manhattan distances to allow
+     * @param maxH2 largest sum of Manhattan distances to allow
+     * @throws IllegalArgumentException if no solvable state has h2 in the range
+     */
+    public BoardGenerator(long seed, int minH2, int maxH2) throws IllegalArgumentException {
+        this(new SplittableRandom(seed), minH2, maxH2);
+    }
+
+    private BoardGenerator(SplittableRandom random, int minH2, int maxH2) {
+        if (minH2 > maxH2) {
+            throw new IllegalArgumentException("minH2 must not be more than maxH2");
+        }
+        if (minH2 > MAX_H2 || maxH2 < 0) {
+            throw new IllegalArgumentException("No solvable state has h2 between " + minH2 + " and " + maxH2);
+        }
+        this.random = random;
+        this.minH2 = minH2;
+        this.maxH2 = maxH2;
+    }
+
+    /**
+     * @return a new generator with the same difficulty range and an independent random sequence (for use on another thread)
+     */
+    public BoardGenerator split() {
+        return new BoardGenerator(random.split(), minH2, maxH2);
+    }
+
+    /**
+     * @return a random solvable packed state (see Board.pack())
+     */
+    public long next() {
+        while (true) {
+            long packed = unrank(random.nextInt(N_ARRANGEMENTS), true);
+            if (minH2 == 0 && maxH2 == Integer.MAX_VALUE) return packed;
+            int h2 = BatchHeuristics.manhattan(packed);
+            if (h2 >= minH2 && h2 <= maxH2) return packed;
+        }
+    }
+
+    /**
+     * @return a board in a random solvable state
+     */
+    public Board nextBoard() {
+        return Board.unpack(next());
+    }
+
+    /**
+     * Fills an array with random solvable packed states
+     *
+     * @param out array to fill
+     */
+    public void fill(long[] out) {
+        for (int i = 0; i < out.length; i++) out[i] = next();
+    }
+
+    /**
+     * Generates many states in parallel.  The work is split into fixed chunks, each with its own generator split from
+     * this one, so the result depends only on the seed and not on the number of threads
+     *
+     * @param n number of states to generate
+     * @return array of n random solvable packed states
+     */
+    public long[] generate(int n) {
+        long[] out = new long[n];
+        List<BoardGenerator> generators = new ArrayList<>();
+        for (int i = 0; i < n; i += CHUNK) generators.add(split());
+        IntStream.range(0, generators.size()).parallel().forEach(c -> {
+            BoardGenerator g = generators.get(c);
+            int end = (int) Math.min(n, (long) (c + 1) * CHUNK);
+            for (int i = c * CHUNK; i < end; i++) out[i] = g.next();
+        });
+        return out;
+    }
+
+    /**
+     * Converts an index into the arrangement of the pieces with that lexicographic rank
+     *
+     * @param index number from 0 to 9! - 1
+     * @return packed arrangement, which may not be solvable
+     */
+    public static long unrank(int index) {
+        return unrank(index, false);
+    }
+
+    /**
+     * Converts an index into the arrangement of the pieces with that lexicographic rank
+     *
+     * @param index         number from 0 to 9! - 1
+     * @param makeSolvable  true to swap pieces 1 and 2 if the arrangement is not solvable
+     * @return packed arrangement
+     */
+    private static long unrank(int index, boolean makeSolvable) {
+        long packed = 0;
+        int free = 0x1FF; //squares that have not been used yet
+        int inversions = 0; //the digits of the index add up to the number of inversions
+        for (int piece = 0; piece < 9; piece++) {
+            int f = FACTORIALS[8 - piece];
+            int d = index / f;
+            index -= d * f;
+            inversions += d;
+            //pick the d-th free square
+            int squares = free;
+            for (int i = 0; i < d; i++) squares &= squares - 1;
+            int square = Integer.numberOfTrailingZeros(squares);
+            free &= ~(1 << square);
+            packed |= (long) square << (4 * piece);
+        }
+
+        int blank = (int) (packed & 0xF);
+        if (makeSolvable && (inversions + blank / 3 + blank % 3) % 2 != 0) {
+            long one = (packed >>> 4) & 0xF;
+            long two = (packed >>> 8) & 0xF;
+            packed = (packed & ~0xFF0L) | (two << 4) | (one << 8);
+        }
+        return packed;
+    }
+
+    /**
+     * Checks if a packed arrangement can be solved.  Every move swaps the blank with a piece and moves the blank one
+     * square, so the parity of the arrangement plus the parity of the blank's distance from its goal never changes
+     *
+     * @param packed arrangement created by Board.pack() or unrank
+     * @return true if the arrangement can be solved
+     */
+    public static boolean isSolvable(long packed) {
+        int[] squares = new int[9];
+        for (int i = 0; i < 9; i++) squares[i] = (int) ((packed >>> (4 * i)) & 0xF);
+        int inversions = 0;
+        for (int i = 0; i < 9; i++)
+            for (int j = i + 1; j < 9; j++)
+                if (squares[i] > squares[j]) inversions++;
+        int blank = squares[0];
+        return (inversions + blank / 3 + blank % 3) % 2 == 0;
+    }
+}
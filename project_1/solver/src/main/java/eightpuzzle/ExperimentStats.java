@@ -0,0 +1,124 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects statistics about searches, broken down by the length of the solution found.  Uses a fixed amount of memory
+ * per solution length no matter how many searches are recorded, and collectors filled on separate threads can be merged
+ */
+public class ExperimentStats {
+    //solution length to the statistics of searches that found a solution of that length
+    private final Map<Integer, Metrics> byLength = new TreeMap<>();
+
+    /**
+     * Records the result of one search
+     *
+     * @param length       length of the solution found
+     * @param nodes        number of nodes visited
+     * @param nanos        wall time of the search in nanoseconds
+     * @param frontierPeak largest size of the frontier during the search
+     */
+    public void record(int length, long nodes, long nanos, long frontierPeak) {
+        Metrics m = byLength.computeIfAbsent(length, l -> new Metrics());
+        m.nodes.record(nodes);
+        m.nanos.record(nanos);
+        m.frontier.record(frontierPeak);
+    }
+
+    /**
+     * Adds all results recorded in another collector to this one
+     *
+     * @param other collector to add
+     */
+    public void merge(ExperimentStats other) {
+        for (Map.Entry<Integer, Metrics> e : other.byLength.entrySet()) {
+            Metrics m = byLength.computeIfAbsent(e.getKey(), l -> new Metrics());
+            m.nodes.merge(e.getValue().nodes);
+            m.nanos.merge(e.getValue().nanos);
+            m.frontier.merge(e.getValue().frontier);
+        }
+    }
+
+    /**
+     * @param length solution length
+     * @return histogram of the nodes visited by searches with that solution length, or null if there were none
+     */
+    public LogLinearHistogram getNodes(int length) {
+        Metrics m = byLength.get(length);
+        return m == null ? null : m.nodes;
+    }
+
+    /**
+     * @param length solution length
+     * @return histogram of the wall time in nanoseconds of searches with that solution length, or null if there were none
+     */
+    public LogLinearHistogram getNanos(int length) {
+        Metrics m = byLength.get(length);
+        return m == null ? null : m.nanos;
+    }
+
+    /**
+     * @param length solution length
+     * @return histogram of the peak frontier size of searches with that solution length, or null if there were none
+     */
+    public LogLinearHistogram getFrontier(int length) {
+        Metrics m = byLength.get(length);
+        return m == null ? null : m.frontier;
+    }
+
+    /**
+     * @return a CSV table with one row per solution length, giving the mean, p50, p99 and max of each statistic
+     */
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder("length,count");
+        for (String name : new String[]{"nodes", "time_us", "frontier"})
+            sb.append(',').append(name).append("_mean,").append(name).append("_p50,")
+                    .append(name).append("_p99,").append(name).append("_max");
+        sb.append('\n');
+
+        for (Map.Entry<Integer, Metrics> e : byLength.entrySet()) {
+            Metrics m = e.getValue();
+            sb.append(e.getKey()).append(',').append(m.nodes.getCount());
+            appendColumns(sb, m.nodes, 1);
+            appendColumns(sb, m.nanos, 1000);
+            appendColumns(sb, m.frontier, 1);
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the table from toCsv to a file
+     *
+     * @param path file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCsv(Path path) throws IOException {
+        Files.write(path, toCsv().getBytes());
+    }
+
+    /**
+     * Appends the mean, p50, p99 and max of a histogram, each divided by scale
+     */
+    private static void appendColumns(StringBuilder sb, LogLinearHistogram h, long scale) {
+        sb.append(',').append(String.format(Locale.ROOT, "%.1f", h.getMean() / scale))
+                .append(',').append(h.percentile(50) / scale)
+                .append(',').append(h.percentile(99) / scale)
+                .append(',').append(h.getMax() / scale);
+    }
+
+    /**
+     * Histograms kept for a single solution length
+     */
+    private static class Metrics {
+        private final LogLinearHistogram nodes = new LogLinearHistogram();
+        private final LogLinearHistogram nanos = new LogLinearHistogram();
+        private final LogLinearHistogram frontier = new LogLinearHistogram();
+    }
+}
@@ -0,0 +1,267 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Class with methods to calculate various statistics about the search methods
+ */
+public class Experiments {
+    public static void main(String[] args) {
+        //display proportion of solutions found with different maxnodes for beam
+        for (int i = 500; i < 500000; i *= 2)
+            System.out.println(i + ":  " + pFound(100, 0.001, i));
+
+    }
+
+    /**
+     * Counts the number of inversions (a_i>a_j when i<j) in a list
+     *
+     * @param list list to count inversions in
+     * @return the number of inversions in list
+     */
+    public static int nInversions(List<Integer> list) {
+        int n = 0;
+        for (int i = 0; i < list.size(); i++)
+            for (int j = i + 1; j < list.size(); j++)
+                if (list.get(i) > list.get(j)) n++;
+        return n;
+    }
+
+    /**
+     * Checks if a board is in a valid position
+     *
+     * @param b board to check validity of
+     * @return true if board is in a valid position, false otherwise
+     */
+    public static boolean validPosition(Board b) {
+        return (nInversions(b.getState()) + b.manhattanDistance()) % 2 == 0;
+    }
+
+    /**
+     * @return all possible arrangements of the board, valid or not
+     */
+    public static List<List<Integer>> permute() {
+        List<Integer> num = Arrays.asList(1, 1 << 1, 1 << 2, 1 << 3, 1 << 4, 1 << 5, 1 << 6, 1 << 7, 1 << 8);
+        List<List<Integer>> result = new ArrayList<>();
+        result.add(new ArrayList<Integer>());
+        for (Integer i : num) {
+            List<List<Integer>> current = new ArrayList<>();
+            for (List<Integer> l : result) {
+                for (int j = 0; j < l.size() + 1; j++) {
+                    l.add(j, i);
+                    List<Integer> temp = new ArrayList<>(l);
+                    current.add(temp);
+                    l.remove(j);
+                }
+            }
+            result = new ArrayList<>(current);
+        }
+        return result;
+    }
+
+    /**
+     * @return a list of all valid possible boards
+     */
+    public static List<Board> validStates() {
+        List<Board> out = new ArrayList<>();
+        for (List<Integer> l : permute()) {
+            Board b = new Board();
+            b.setState(l);
+            //same result as validPosition, from the packed state without boxing
+            if (BoardGenerator.isSolvable(b.pack()))
+                out.add(b);
+        }
+        return out;
+    }
+
+    /**
+     * Samples about 10% of possible states and calculates average nodes visited vs length of solution using A* search
+     *
+     * @param heuristic heuristic to use to search (h1 or h2)
+     * @return List of length 32 with the value at index i being the average number of nodes visited for a solution of that length
+     */
+    public static List<Integer> nodesVsLength(String heuristic) {
+        //only node counts are used, so the searches can share the cores
+        return means(nodesVsLengthStats(heuristic, 0.1, true), 32);
+    }
+
+    /**
+     * Samples states and records nodes visited, wall time and peak frontier size vs length of solution using A* search.
+     * Searches that do not find a solution are not recorded.  The searches run one at a time so the wall times are not
+     * skewed by contention
+     *
+     * @param heuristic heuristic to use to search (h1 or h2)
+     * @param prop      approximate proportion of states to sample
+     * @return statistics of the searches, by solution length
+     */
+    public static ExperimentStats nodesVsLengthStats(String heuristic, double prop) {
+        return nodesVsLengthStats(heuristic, prop, false);
+    }
+
+    /**
+     * Samples states and records nodes visited, wall time and peak frontier size vs length of solution using A* search.
+     * Searches that do not find a solution are not recorded
+     *
+     * @param heuristic heuristic to use to search (h1 or h2)
+     * @param prop      approximate proportion of states to sample
+     * @param parallel  true to run the searches in parallel (see collectStats for the effect on wall times)
+     * @return statistics of the searches, by solution length
+     */
+    public static ExperimentStats nodesVsLengthStats(String heuristic, double prop, boolean parallel) {
+        return collectStats(sampleBoards(prop), b -> Solver.aStarStats(heuristic, b), parallel);
+    }
+
+    public static List<Integer> beamNodesVsLength() {
+        return means(beamNodesVsLengthStats(100, 0.1, true), 300);
+    }
+
+    /**
+     * Samples states and records nodes visited, wall time and peak frontier size vs length of solution using beam search
+     * (with at most 10000 nodes).  Searches that do not find a solution are not recorded.  The searches run one at a
+     * time so the wall times are not skewed by contention
+     *
+     * @param k    beam width
+     * @param prop approximate proportion of states to sample
+     * @return statistics of the searches, by solution length
+     */
+    public static ExperimentStats beamNodesVsLengthStats(int k, double prop) {
+        return beamNodesVsLengthStats(k, prop, false);
+    }
+
+    /**
+     * Samples states and records nodes visited, wall time and peak frontier size vs length of solution using beam search
+     * (with at most 10000 nodes).  Searches that do not find a solution are not recorded
+     *
+     * @param k        beam width
+     * @param prop     approximate proportion of states to sample
+     * @param parallel true to run the searches in parallel (see collectStats for the effect on wall times)
+     * @return statistics of the searches, by solution length
+     */
+    public static ExperimentStats beamNodesVsLengthStats(int k, double prop, boolean parallel) {
+        List<Board> boards = sampleBoards(prop);
+        for (Board b : boards) b.setMaxNodes(10000);
+        return collectStats(boards, b -> Solver.beamStats(k, b), parallel);
+    }
+
+    /**
+     * Solves boards one at a time, so the recorded wall times are those of a search running alone
+     *
+     * @param boards boards to solve
+     * @param search search to run on each board
+     * @return statistics of the searches that found a solution
+     */
+    public static ExperimentStats collectStats(List<Board> boards, Function<Board, Pair> search) {
+        return collectStats(boards, search, false);
+    }
+
+    /**
+     * Solves boards, either one at a time or in parallel with a collector per thread that are merged at the end.
+     * Node counts and frontier sizes are the same either way, but parallel searches compete for cores, memory
+     * bandwidth and the garbage collector, so their wall times (especially the tail percentiles) are inflated
+     *
+     * @param boards   boards to solve
+     * @param search   search to run on each board
+     * @param parallel true to solve boards in parallel
+     * @return statistics of the searches that found a solution
+     */
+    public static ExperimentStats collectStats(List<Board> boards, Function<Board, Pair> search, boolean parallel) {
+        Stream<Board> stream = parallel ? boards.parallelStream() : boards.stream();
+        return stream.collect(ExperimentStats::new, (stats, b) -> {
+            long start = System.nanoTime();
+            Pair p = search.apply(b);
+            long nanos = System.nanoTime() - start;
+            if (p.i != -1) stats.record(p.s.length(), p.i, nanos, p.frontier);
+        }, ExperimentStats::merge);
+    }
+
+    /**
+     * @param stats  statistics by solution length
+     * @param length number of solution lengths to include
+     * @return List with the value at index i being the average number of nodes visited for a solution of length i, or -1 if there were none
+     */
+    private static List<Integer> means(ExperimentStats stats, int length) {
+        List<Integer> out = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            LogLinearHistogram nodes = stats.getNodes(i);
+            out.add(nodes == null ? -1 : (int) nodes.getMean());
+        }
+        return out;
+    }
+
+    /**
+     * Class to easily represent a solution along with the number of nodes visited
+     */
+    public static class Pair {
+        public String s;
+        public int i;
+        //largest size of the frontier during the search (0 if not measured)
+        public int frontier;
+
+        public Pair(String s, int i) {
+            this(s, i, 0);
+        }
+
+        public Pair(String s, int i, int frontier) {
+            this.s = s;
+            this.i = i;
+            this.frontier = frontier;
+        }
+    }
+
+    /**
+     * Sample about specified proportion of all possible board states
+     *
+     * @param prop approximate proportion to sample
+     * @return a list of boards randomly selected from the starting state
+     */
+    public static List<Board> sampleBoards(double prop) {
+        List<Board> out = new ArrayList<>();
+        for (Board b : validStates()) {
+            if (Math.random() < prop) out.add(b);
+        }
+        return out;
+    }
+
+    /**
+     * Calculate the proportion of solutions found using beam search
+     *
+     * @param k        beam width
+     * @param prop     proportion to sample
+     * @param maxNodes maximum nodes to explore
+     * @return
+     */
+    public static double pFound(int k, double prop, int maxNodes) {
+        int found = 0;
+        int total = 0;
+        for (Board b : sampleBoards(prop)) {
+            b.setMaxNodes(maxNodes);
+            Pair p = Solver.beamStats(k, b);
+            if (p.i != -1) found++;
+            ++total;
+        }
+        return found * 1.0 / total;
+    }
+
+    /**
+     * Method to verify that the beam search finds the correct solution
+     *
+     * @return true if all solutions are correct, false if at least one is not
+     */
+    public static boolean testBeam() {
+        List<Board> l = sampleBoards(0.1);
+        for (int i = 0; i < 100; i++) {
+            l.get(i).setMaxNodes(20000);
+            Pair p = Solver.beamStats(250, l.get(i));
+            if (p.i != -1) {
+                l.get(i).applyMoves(p.s);
+                if (!l.get(i).getState().equals(Board.GOALPOSITIONS)) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+/**
+ * Histogram of non-negative longs using a fixed amount of memory.  Values below 2^SUB_BITS each get their own bucket,
+ * and every larger power of two range is split into 2^SUB_BITS equal buckets, so percentiles are accurate to within
+ * about 3% of the value.  The count, sum, minimum and maximum are exact
+ */
+public class LogLinearHistogram {
+    //number of bits used to split each power of two range
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final long[] counts = new long[(64 - SUB_BITS + 1) * SUB_BUCKETS];
+    private long count = 0;
+    private long sum = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    /**
+     * Adds a value to the histogram
+     *
+     * @param value value to add (must not be negative)
+     * @throws IllegalArgumentException if value is negative
+     */
+    public void record(long value) throws IllegalArgumentException {
+        if (value < 0) {
+            throw new IllegalArgumentException(value + " is negative");
+        }
+        counts[bucket(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values recorded in another histogram to this one
+     *
+     * @param other histogram to add
+     */
+    public void merge(LogLinearHistogram other) {
+        for (int i = 0; i < counts.length; i++) counts[i] += other.counts[i];
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Finds the value at a percentile
+     *
+     * @param percentile number from 0 to 100
+     * @return the largest value that could be in the bucket holding the percentile (never more than the maximum),
+     * or 0 if nothing has been recorded
+     */
+    public long percentile(double percentile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(max, Math.max(min, highest(i)));
+        }
+        return max;
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean of all values recorded, or 0 if nothing has been recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : sum * 1.0 / count;
+    }
+
+    /**
+     * @return the largest value recorded, or 0 if nothing has been recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the index of the bucket that holds value
+     */
+    private static int bucket(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value); //at least SUB_BITS
+        int shift = exponent - SUB_BITS;
+        //the bits after the leading one select the sub-bucket
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @return the largest value that falls into a bucket
+     */
+    private static long highest(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,233 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * A* search that keeps its closed set and open list outside the Java heap, in memory owned by an Arena that is
+ * freed when the search is closed.  States are stored packed (see Board.pack()), so the heap stays the same size and
+ * the garbage collector has nothing to do no matter how many nodes are visited.
+ * Uses the Foreign Function and Memory API, which needs Java 21 with --enable-preview
+ */
+public class OffHeapSearch implements AutoCloseable {
+    //moves in the order of their codes (code 0 marks the start state)
+    private static final char[] MOVES = {'l', 'r', 'u', 'd'};
+    private static final int START = 0;
+    //bytes in one open list entry (priority key, then packed state)
+    private static final long ENTRY_BYTES = 2 * Long.BYTES;
+
+    private final Arena arena = Arena.ofConfined();
+    private final boolean misplaced;
+
+    //closed set: open addressing table of (state << 4 | (code + 1)), where 0 is an empty slot
+    private MemorySegment closed;
+    private long closedCapacity;
+    private long closedSize = 0;
+
+    //open list: binary min-heap of entries ordered by key
+    private MemorySegment open;
+    private long openCapacity;
+    private long openSize = 0;
+
+    /**
+     * @param heuristicType either h1 or h2.  h1 is number of misplaced tiles, h2 is sum of Manhattan distance of all tiles from goal state
+     */
+    public OffHeapSearch(String heuristicType) {
+        misplaced = heuristicType.equals("h1");
+        closedCapacity = 1 << 12;
+        closed = allocate(closedCapacity);
+        openCapacity = 1 << 12;
+        open = arena.allocate(openCapacity * ENTRY_BYTES, Long.BYTES);
+    }
+
+    /**
+     * Solves a board using A*
+     *
+     * @param start Board to start search from
+     * @return The result of the search and the number of nodes visited, or an empty string and -1 if no solution was found
+     */
+    public Experiments.Pair solve(Board start) {
+        int maxNodes = start.getMaxNodes();
+        int nVisited = 0;
+        long frontierPeak = 1;
+        long[] children = new long[MOVES.length];
+        int[] codes = new int[MOVES.length];
+        int[] h = new int[MOVES.length];
+
+        children[0] = start.pack();
+        score(children, 1, h);
+        push(key(h[0], 0, START), children[0]);
+
+        while (openSize > 0 && nVisited < maxNodes && !Thread.currentThread().isInterrupted()) {
+            long key = open.get(ValueLayout.JAVA_LONG, 0);
+            long state = open.get(ValueLayout.JAVA_LONG, Long.BYTES);
+            pop();
+            if (!close(state, (int) (key & 0xFF))) continue; //already reached by a path at least as short
+            nVisited++;
+
+            if (state == Board.GOALPACKED) return new Experiments.Pair(path(state), nVisited, (int) frontierPeak);
+
+            //path cost of the children
+            int g = 0xFFFF - (int) ((key >>> 8) & 0xFFFF) + 1;
+            int n = 0;
+            for (int code = 0; code < MOVES.length; code++) {
+                long child = Board.packedMove(state, MOVES[code]);
+                if (child != -1 && find(child) < 0) {
+                    codes[n] = code + 1;
+                    children[n++] = child;
+                }
+            }
+            score(children, n, h);
+            for (int i = 0; i < n; i++) push(key(g + h[i], g, codes[i]), children[i]);
+            frontierPeak = Math.max(frontierPeak, openSize);
+        }
+        return new Experiments.Pair("", -1);
+    }
+
+    /**
+     * Frees all memory used by the search
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    /**
+     * Computes the heuristic for the first n states
+     */
+    private void score(long[] states, int n, int[] out) {
+        if (misplaced) BatchHeuristics.misplaced(states, n, out);
+        else BatchHeuristics.manhattan(states, n, out);
+    }
+
+    /**
+     * Builds an open list key ordered by f, then by larger g, with the move code in the lowest byte
+     */
+    private static long key(int f, int g, int code) {
+        return ((long) f << 24) | ((long) (0xFFFF - g) << 8) | code;
+    }
+
+    /**
+     * Follows the stored moves back from a closed state to the start
+     *
+     * @return the moves from the start to state
+     */
+    private String path(long state) {
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int code = (int) (closed.getAtIndex(ValueLayout.JAVA_LONG, find(state)) & 0xF) - 1;
+            if (code == START) break;
+            char move = MOVES[code - 1];
+            sb.append(move);
+            //the move back to the parent is the opposite of the one that reached state
+            state = Board.packedMove(state, MOVES[(code - 1) ^ 1]);
+        }
+        return sb.reverse().toString();
+    }
+
+    /**
+     * @return a zeroed segment holding the given number of longs
+     */
+    private MemorySegment allocate(long longs) {
+        MemorySegment segment = arena.allocate(longs * Long.BYTES, Long.BYTES);
+        segment.fill((byte) 0);
+        return segment;
+    }
+
+    /**
+     * @return the slot in the closed set holding state, or -1 if state is not closed
+     */
+    private long find(long state) {
+        long mask = closedCapacity - 1;
+        for (long slot = hash(state) & mask; ; slot = (slot + 1) & mask) {
+            long entry = closed.getAtIndex(ValueLayout.JAVA_LONG, slot);
+            if (entry == 0) return -1;
+            if (entry >>> 4 == state) return slot;
+        }
+    }
+
+    /**
+     * Adds a state to the closed set, growing the table when it is half full
+     *
+     * @param state state to add
+     * @param code  code of the move that reached state
+     * @return false if state was already closed
+     */
+    private boolean close(long state, int code) {
+        if (find(state) >= 0) return false;
+        if (2 * (closedSize + 1) > closedCapacity) {
+            //old tables stay allocated until the arena is closed, which at most doubles the memory used
+            MemorySegment old = closed;
+            long oldCapacity = closedCapacity;
+            closedCapacity *= 2;
+            closed = allocate(closedCapacity);
+            for (long i = 0; i < oldCapacity; i++) {
+                long entry = old.getAtIndex(ValueLayout.JAVA_LONG, i);
+                if (entry != 0) insert(entry);
+            }
+        }
+        insert((state << 4) | (code + 1));
+        closedSize++;
+        return true;
+    }
+
+    private void insert(long entry) {
+        long mask = closedCapacity - 1;
+        long slot = hash(entry >>> 4) & mask;
+        while (closed.getAtIndex(ValueLayout.JAVA_LONG, slot) != 0) slot = (slot + 1) & mask;
+        closed.setAtIndex(ValueLayout.JAVA_LONG, slot, entry);
+    }
+
+    private static long hash(long state) {
+        long h = state * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * Adds an entry to the open list, growing it when it is full
+     */
+    private void push(long key, long state) {
+        if (openSize == openCapacity) {
+            MemorySegment bigger = arena.allocate(2 * openCapacity * ENTRY_BYTES, Long.BYTES);
+            bigger.copyFrom(open);
+            open = bigger;
+            openCapacity *= 2;
+        }
+        long i = openSize++;
+        while (i > 0) {
+            long parent = (i - 1) / 2;
+            long parentKey = open.get(ValueLayout.JAVA_LONG, parent * ENTRY_BYTES);
+            if (parentKey <= key) break;
+            set(i, parentKey, open.get(ValueLayout.JAVA_LONG, parent * ENTRY_BYTES + Long.BYTES));
+            i = parent;
+        }
+        set(i, key, state);
+    }
+
+    /**
+     * Removes the smallest entry from the open list
+     */
+    private void pop() {
+        openSize--;
+        long key = open.get(ValueLayout.JAVA_LONG, openSize * ENTRY_BYTES);
+        long state = open.get(ValueLayout.JAVA_LONG, openSize * ENTRY_BYTES + Long.BYTES);
+        long i = 0;
+        while (2 * i + 1 < openSize) {
+            long child = 2 * i + 1;
+            if (child + 1 < openSize && open.get(ValueLayout.JAVA_LONG, (child + 1) * ENTRY_BYTES) < open.get(ValueLayout.JAVA_LONG, child * ENTRY_BYTES))
+                child++;
+            long childKey = open.get(ValueLayout.JAVA_LONG, child * ENTRY_BYTES);
+            if (key <= childKey) break;
+            set(i, childKey, open.get(ValueLayout.JAVA_LONG, child * ENTRY_BYTES + Long.BYTES));
+            i = child;
+        }
+        if (openSize > 0) set(i, key, state);
+    }
+
+    private void set(long i, long key, long state) {
+        open.set(ValueLayout.JAVA_LONG, i * ENTRY_BYTES, key);
+        open.set(ValueLayout.JAVA_LONG, i * ENTRY_BYTES + Long.BYTES, state);
+    }
+}
@@ -0,0 +1,157 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class to solve a board by racing several search methods against each other and taking the first good answer
+ */
+public class Portfolio {
+    //strategies raced against each other, written the same way as the arguments to solve
+    public static final List<String> STRATEGIES = Arrays.asList("A-star h2", "IDA-star h2", "A-star h1", "beam 100", "beam 10");
+    //strategies that always find the shortest solution (A-star h1 is left out, it rarely finishes within maxNodes)
+    public static final List<String> OPTIMAL = Arrays.asList("A-star h2", "IDA-star h2");
+    //number of times each strategy has returned the accepted solution
+    private static final Map<String, Integer> WINS = new ConcurrentHashMap<>();
+
+    /**
+     * Solves a board by running all strategies in parallel
+     *
+     * @param start   Board to start search from (left unchanged)
+     * @param optimal true to only accept solutions from strategies that guarantee the shortest solution
+     * @return The string of moves to reach the solved state from start, or "No solution was found" if no solution is found
+     */
+    public static String solve(Board start, boolean optimal) {
+        Result r = solveStats(start, optimal);
+        if (r == null) return "No solution was found";
+        else return r.pair.s;
+    }
+
+    /**
+     * Solves a board by running all strategies in parallel.  As soon as one strategy returns a valid solution the
+     * others are interrupted, and this returns once they have stopped
+     *
+     * @param start   Board to start search from (left unchanged)
+     * @param optimal true to only accept solutions from strategies that guarantee the shortest solution
+     * @return the winning strategy and its result, or null if no strategy found a solution
+     */
+    public static Result solveStats(Board start, boolean optimal) {
+        List<String> strategies = new ArrayList<>();
+        for (String strategy : STRATEGIES) {
+            if (!optimal || OPTIMAL.contains(strategy)) strategies.add(strategy);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(strategies.size(), r -> new Thread(r, "portfolio"));
+        ExecutorCompletionService<Result> completion = new ExecutorCompletionService<>(executor);
+        try {
+            for (String strategy : strategies) {
+                Board copy = copy(start);
+                completion.submit(() -> new Result(strategy, run(strategy, copy)));
+            }
+
+            for (int i = 0; i < strategies.size(); i++) {
+                Result r;
+                try {
+                    r = completion.take().get();
+                } catch (ExecutionException e) {
+                    e.printStackTrace();
+                    continue;
+                }
+                if (r.pair.i != -1 && isSolution(start, r.pair.s)) {
+                    WINS.merge(r.strategy, 1, Integer::sum);
+                    return r;
+                }
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            //interrupts the strategies that are still searching, and waits for them so none keep using a core
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Runs a single strategy
+     *
+     * @param strategy search method and its argument, such as "A-star h2" or "beam 100"
+     * @param start    Board to start search from
+     * @return The result of the search and the number of nodes visited, or an empty string and -1 if no solution was found
+     * @throws IllegalArgumentException if strategy is not recognized
+     */
+    public static Experiments.Pair run(String strategy, Board start) throws IllegalArgumentException {
+        String[] parts = strategy.split(" ");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(strategy + " is not a valid strategy");
+        }
+        switch (parts[0]) {
+            case "A-star":
+                return Solver.aStarStats(parts[1], start);
+            case "IDA-star":
+                return Solver.idaStarStats(parts[1], start);
+            case "beam":
+                return Solver.beamStats(Integer.parseInt(parts[1]), start);
+            default:
+                throw new IllegalArgumentException(strategy + " is not a valid strategy");
+        }
+    }
+
+    /**
+     * @return the number of times each strategy has won, sorted by strategy
+     */
+    public static Map<String, Integer> getWins() {
+        return new TreeMap<>(WINS);
+    }
+
+    /**
+     * @return a copy of the board's state and maxNodes, so searches on separate threads do not share a board
+     */
+    private static Board copy(Board b) {
+        Board out = new Board();
+        out.setState(new ArrayList<>(b.getState()));
+        out.setMaxNodes(b.getMaxNodes());
+        return out;
+    }
+
+    /**
+     * @return true if applying moves to start reaches the solved state
+     */
+    private static boolean isSolution(Board start, String moves) {
+        Board b = copy(start);
+        try {
+            b.applyMoves(moves);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return b.getState().equals(Board.GOALPOSITIONS);
+    }
+
+    /**
+     * Class to represent the result of a search along with the strategy that produced it
+     */
+    public static class Result {
+        public String strategy;
+        public Experiments.Pair pair;
+
+        public Result(String strategy, Experiments.Pair pair) {
+            this.strategy = strategy;
+            this.pair = pair;
+        }
+    }
+}
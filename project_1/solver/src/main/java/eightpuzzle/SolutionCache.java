@@ -0,0 +1,198 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Class to keep a search between solves, so a board that has only been moved a little since the last solve does not
+ * need a full search.  The search runs backward from the solved state toward the board being solved, in the style of
+ * D* Lite: every closed state keeps its exact distance to the goal, and when the board moves only the key offset km
+ * changes, so the open list is reused and the search continues from where it stopped.  A board on a previous solution
+ * (or anywhere else the search has already closed) is solved without expanding any nodes.  States are stored in their
+ * canonical form (see Symmetry), so mirrored states share their search data
+ */
+public class SolutionCache {
+    //moves in the order of their codes, with the inverse of each move at code ^ 1
+    private static final char[] MOVES = {'l', 'r', 'u', 'd'};
+    //code of the same move on the mirrored board (l and u swapped, r and d swapped)
+    private static final int[] MIRRORED = {2, 3, 0, 1};
+    //bit of a node's info set once it is closed, below it the code of a move toward the goal, above it the g value
+    private static final int CLOSED = 1 << 2;
+    private static final int G_SHIFT = 3;
+
+    //canonical packed state to its info: g value (moves to the goal), closed flag and a move toward the goal
+    private final Map<Long, Integer> nodes = new HashMap<>();
+    //open states, by key and then deeper states first
+    private final PriorityQueue<Entry> open = new PriorityQueue<>((e1, e2) -> e1.key != e2.key ? e1.key - e2.key : e2.g - e1.g);
+    //board the heuristic estimates the distance to, or -1 if no board has been solved since the last clear
+    private long target = -1;
+    //whether the heuristic is h1 instead of h2
+    private boolean misplaced;
+    //sum of the heuristic distances the target has moved since the keys were last computed
+    private int km;
+
+    /**
+     * Creates a cache that has not searched anything yet
+     */
+    public SolutionCache() {
+        reset();
+    }
+
+    /**
+     * Forgets all search data
+     */
+    public void clear() {
+        reset();
+    }
+
+    private void reset() {
+        nodes.clear();
+        open.clear();
+        nodes.put(Board.GOALPACKED, 0);
+        open.add(new Entry(0, 0, Board.GOALPACKED));
+        target = -1;
+        km = 0;
+    }
+
+    /**
+     * @param b board to look up
+     * @return an optimal solution for the board if the search has already closed it, otherwise null
+     */
+    public String lookup(Board b) {
+        long packed = b.pack();
+        Integer info = nodes.get(Symmetry.canonical(packed));
+        if (packed != Board.GOALPACKED && (info == null || (info & CLOSED) == 0)) return null;
+        return path(packed);
+    }
+
+    /**
+     * Solves a board optimally, continuing the search kept from earlier solves.  The number of nodes visited counts
+     * only the nodes expanded by this call, so it is 0 if the board is on a solution found before
+     *
+     * @param heuristicType either h1 or h2.  Changing it between solves recomputes the keys of the open states
+     * @param start         Board to start search from (only its maxNodes limits the nodes expanded by this call)
+     * @return The result of the search and the number of nodes visited, or and empty string and -1 if no solution was found
+     */
+    public Experiments.Pair solve(String heuristicType, Board start) {
+        long packed = start.pack();
+        if (!BoardGenerator.isSolvable(packed)) return new Experiments.Pair("", -1);
+
+        boolean h1 = heuristicType.equals("h1");
+        if (target == -1 || h1 != misplaced) {
+            misplaced = h1;
+            target = packed;
+            rekey();
+        } else if (packed != target) {
+            //keys computed for the old target are still lower bounds, so each is only fixed when it is popped
+            km += distance(target, packed);
+            target = packed;
+        }
+
+        long canonical = Symmetry.canonical(packed);
+        int nVisited = 0;
+        int maxNodes = start.getMaxNodes();
+        while ((nodes.getOrDefault(canonical, 0) & CLOSED) == 0) {
+            if (open.isEmpty() || nVisited >= maxNodes || Thread.currentThread().isInterrupted()) {
+                return new Experiments.Pair("", -1);
+            }
+            Entry e = open.poll();
+            int info = nodes.get(e.state);
+            if ((info & CLOSED) != 0 || info >>> G_SHIFT != e.g) continue; //replaced by a shorter path
+            int key = e.g + heuristic(e.state) + km;
+            if (e.key < key) {
+                open.add(new Entry(key, e.g, e.state));
+                continue;
+            }
+
+            nodes.put(e.state, info | CLOSED);
+            nVisited++;
+            expand(e.state, e.g);
+        }
+        return new Experiments.Pair(path(packed), nVisited);
+    }
+
+    /**
+     * Adds the neighbours of a closed state to the open list, or lowers their g value
+     */
+    private void expand(long state, int g) {
+        for (int code = 0; code < MOVES.length; code++) {
+            long child = Board.packedMove(state, MOVES[code]);
+            if (child == -1) continue;
+            long canonical = Symmetry.canonical(child);
+            //the move from the child back to state, on the canonical board
+            int back = canonical == child ? code ^ 1 : MIRRORED[code ^ 1];
+            Integer info = nodes.get(canonical);
+            if (info == null || ((info & CLOSED) == 0 && info >>> G_SHIFT > g + 1)) {
+                nodes.put(canonical, (g + 1) << G_SHIFT | back);
+                open.add(new Entry(g + 1 + heuristic(canonical) + km, g + 1, canonical));
+            }
+        }
+    }
+
+    /**
+     * Recomputes the key of every open state for the current target and heuristic
+     */
+    private void rekey() {
+        km = 0;
+        open.clear();
+        for (Map.Entry<Long, Integer> e : nodes.entrySet()) {
+            int info = e.getValue();
+            if ((info & CLOSED) != 0) continue;
+            int g = info >>> G_SHIFT;
+            open.add(new Entry(g + heuristic(e.getKey()), g, e.getKey()));
+        }
+    }
+
+    /**
+     * Follows the stored moves from a closed state to the goal
+     */
+    private String path(long packed) {
+        StringBuilder moves = new StringBuilder();
+        while (packed != Board.GOALPACKED) {
+            long canonical = Symmetry.canonical(packed);
+            int code = nodes.get(canonical) & (CLOSED - 1);
+            if (canonical != packed) code = MIRRORED[code];
+            moves.append(MOVES[code]);
+            packed = Board.packedMove(packed, MOVES[code]);
+        }
+        return moves.toString();
+    }
+
+    /**
+     * @return the estimated distance from either member of a symmetry class to the target
+     */
+    private int heuristic(long canonical) {
+        return Math.min(distance(canonical, target), distance(Symmetry.mirror(canonical), target));
+    }
+
+    /**
+     * @return the number of misplaced tiles (h1) or the sum of Manhattan distances of the tiles (h2) between two states
+     */
+    private int distance(long a, long b) {
+        int d = 0;
+        for (int piece = 1; piece < 9; piece++) {
+            int sa = (int) ((a >>> (4 * piece)) & 0xF);
+            int sb = (int) ((b >>> (4 * piece)) & 0xF);
+            if (misplaced) d += sa == sb ? 0 : 1;
+            else d += Math.abs(sa / 3 - sb / 3) + Math.abs(sa % 3 - sb % 3);
+        }
+        return d;
+    }
+
+    /**
+     * Entry of the open list.  A state can have older entries left in the list, which are skipped when popped
+     */
+    private static class Entry {
+        private final int key;
+        private final int g;
+        private final long state;
+
+        Entry(int key, int g, long state) {
+            this.key = key;
+            this.g = g;
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Class to solve the 8-puzzle with various methods
+ */
+public class Solver {
+    //true if OffHeapSearch can be loaded (it is compiled with preview features, so the JVM needs --enable-preview)
+    public static final boolean OFF_HEAP_AVAILABLE = canLoad("eightpuzzle.OffHeapSearch");
+
+    /**
+     * @return true if the class can be loaded by this JVM
+     */
+    private static boolean canLoad(String className) {
+        try {
+            Class.forName(className, false, Solver.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Solves a board using A* with a specified heuristic
+     *
+     * @param heuristicType either h1 or h2.  h1 is number of misplaced tiles, h2 is sum of Manhattan distance of all tiles from goal state
+     * @param start         Board to start search from
+     * @return The string of moves to reach the solved state from start, or "No solution was found" if no solution is
+     * @throws IllegalArgumentException if heuristicType is not h1 or h2
+     */
+    public static String aStar(String heuristicType, Board start) throws IllegalArgumentException {
+        Experiments.Pair p = aStarStats(heuristicType, start);
+        if (p.i == -1) return "No Solution was Found";
+        else return p.s;
+    }
+
+    /**
+     * Solves a board using A* with a specified heuristic, optionally keeping the search outside the Java heap
+     *
+     * @param heuristicType either h1 or h2.  h1 is number of misplaced tiles, h2 is sum of Manhattan distance of all tiles from goal state
+     * @param start         Board to start search from
+     * @param offHeap       true to store the closed set and open list off heap (see OffHeapSearch).  Ignored if
+     *                      OFF_HEAP_AVAILABLE is false
+     * @return The string of moves to reach the solved state from start, or "No solution was found" if no solution is
+     * @throws IllegalArgumentException if heuristicType is not h1 or h2
+     */
+    public static String aStar(String heuristicType, Board start, boolean offHeap) throws IllegalArgumentException {
+        Experiments.Pair p = aStarStats(heuristicType, start, offHeap);
+        if (p.i == -1) return "No Solution was Found";
+        else return p.s;
+    }
+
+
+    /**
+     * Solves a board using A* with a specified heuristic
+     *
+     * @param heuristicType either h1 or h2.  h1 is number of misplaced tiles, h2 is sum of Manhattan distance of all tiles from goal state
+     * @param start         Board to start search from
+     * @return The result of the search and the number of nodes visited, or and empty string and -1 if no solution was found
+     * @throws IllegalArgumentException if heuristicType is not h1 or h2
+     */
+    public static Experiments.Pair aStarStats(String heuristicType, Board start) throws IllegalArgumentException {
+        Method heuristic;
+
+        //get the method used for the heuristic function
+        try {
+            heuristic = heuristicType.equals("h1") ? Board.class.getMethod("nMisplaced") : Board.class.getMethod("manhattanDistance");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(heuristicType + " is not a valid heuristic");
+        }
+
+        //Queue to store nodes that have yet to be visited
+        PriorityQueue<Board> queue = new PriorityQueue<Board>((b1, b2) -> {
+            try {
+                return ((int) heuristic.invoke(b1) + b1.getPathCost()) - ((int) heuristic.invoke(b2) + b2.getPathCost());
+            } catch (Exception e) {
+                e.printStackTrace();
+                return 0;
+            }
+        });
+
+        queue.add(start); //queue of open nodes
+        Set<List<Integer>> visited = new HashSet<>(); //set of closed nodes
+        Board goalBoard = new Board();
+
+        boolean found = false;
+        int nVisited = 0;
+        int frontierPeak = 1;
+        int maxNodes = start.getMaxNodes();
+        //search until queue is empty, solution is found, maxNodes is exceeded, or the thread is interrupted
+        while (!found && nVisited < maxNodes && queue.size() > 0 && !Thread.currentThread().isInterrupted()) {
+            Board current = queue.poll();
+            //goal test
+            if (current.getState().equals(Board.GOALPOSITIONS)) {
+                found = true;
+                goalBoard = current;
+            }
+
+            visited.add(current.getState());
+            nVisited++;
+
+            //Add nodes to queue if they have not already been explored
+            for (Board child : current.getChildren()) {
+                if (!visited.contains(child.getState())) {
+                    queue.add(child);
+                }
+            }
+            frontierPeak = Math.max(frontierPeak, queue.size());
+        }
+
+        if (!found) {
+            return new Experiments.Pair("", -1);
+        } else {
+            return new Experiments.Pair(goalBoard.getPrevMoves(), nVisited, frontierPeak);
+        }
+    }
+
+    /**
+     * Solves a board using A* with a specified heuristic, optionally keeping the search outside the Java heap
+     *
+     * @param heuristicType either h1 or h2.  h1 is number of misplaced tiles, h2 is sum of Manhattan distance of all tiles from goal state
+     * @param start         Board to start search from
+     * @param offHeap       true to store the closed set and open list off heap (see OffHeapSearch).  Ignored if
+     *                      OFF_HEAP_AVAILABLE is false
+     * @return The result of the search and the number of nodes visited, or and empty string and -1 if no solution was found
+     * @throws IllegalArgumentException if heuristicType is not h1 or h2
+     */
+    public static Experiments.Pair aStarStats(String heuristicType, Board start, boolean offHeap) throws IllegalArgumentException {
+        if (!offHeap || !OFF_HEAP_AVAILABLE) return aStarStats(heuristicType, start);
+        //memory is freed as soon as the search finishes
+        try (OffHeapSearch search = new OffHeapSearch(heuristicType)) {
+            return search.solve(start);
+        }
+    }
+
+    /**
+     * Solves a board using a beam search
+     *
+     * @param k     beam width
+     * @param start board to start search from
+     * @return The string of moves to reach the solved state from start, or "No solution was found" if no solution is found
+     */
+    public static String beam(int k, Board start) {
+        Experiments.Pair p = beamStats(k, start);
+        if (p.i == -1) return "No solution was found";
+        else return p.s;
+    }
+
+    /**
+     * Solves a board using a beam search
+     *
+     * @param k     beam width
+     * @param start board to start search from
+     * @return The result of the search and the number of nodes visited, or an empty string and -1 if no solution was found
+     */
+    public static Experiments.Pair beamStats(int k, Board start) {
+        boolean found = false;
+        //the goal is the solved state
+        Board goalBoard = new Board();
+        List<Board> kStates = new ArrayList<>();
+        //initialize with k random scrambles from the start state
+        for (int i = 0; i < k - 1; i++) {
+            Board f = new Board();
+            f.setState(new ArrayList<>(start.getState()));
+            String s = f.scramble(15);
+            f.setPrevMoves(s);
+            kStates.add(f);
+        }
+
+        //add the starting state in case it is very close to the solution
+        kStates.add(start);
+
+        int maxNodes = start.getMaxNodes(); //maximum number of nodes to visit
+        int nVisited = 0; //number of nodes visited
+        int frontierPeak = kStates.size(); //largest number of children considered at once
+
+
+        while (!found && nVisited < maxNodes && !Thread.currentThread().isInterrupted()) {
+            Set<Board> children = new HashSet<>(); //set to guarantee uniqueness of of new k States chosen
+            //add all children to set
+            for (Board parent : kStates) {
+                if (parent.getState().equals(Board.GOALPOSITIONS)) {
+                    found = true;
+                    goalBoard = parent;
+                    break;
+                }
+                children.addAll(parent.getChildren());
+                nVisited++;
+            }
+
+            //score all children at once (beamHeuritic is h2), then keep the k best
+            List<Board> childrenList = new ArrayList<>(children);
+            frontierPeak = Math.max(frontierPeak, childrenList.size());
+            long[] packed = new long[childrenList.size()];
+            int[] scores = new int[packed.length];
+            for (int i = 0; i < packed.length; i++) packed[i] = childrenList.get(i).pack();
+            BatchHeuristics.manhattan(packed, packed.length, scores);
+
+            //sort by score, breaking ties by position in the list so the order matches a stable sort
+            long[] order = new long[packed.length];
+            for (int i = 0; i < order.length; i++) order[i] = ((long) scores[i] << 32) | i;
+            Arrays.sort(order);
+            kStates = new ArrayList<>(Math.min(k, order.length));
+            for (int i = 0; i < order.length && i < k; i++) kStates.add(childrenList.get((int) order[i]));
+        }
+
+        if (!found) {
+            return new Experiments.Pair("", -1);
+        } else {
+            return new Experiments.Pair(goalBoard.getPrevMoves(), nVisited, frontierPeak);
+        }
+    }
+
+    /**
+     * Solves a board using iterative deepening A* with a specified heuristic
+     *
+     * @param heuristicType either h1 or h2.  h1 is number of misplaced tiles, h2 is sum of Manhattan distance of all tiles from goal state
+     * @param start         Board to start search from
+     * @return The string of moves to reach the solved state from start, or "No solution was found" if no solution is found
+     */
+    public static String idaStar(String heuristicType, Board start) {
+        Experiments.Pair p = idaStarStats(heuristicType, start);
+        if (p.i == -1) return "No solution was found";
+        else return p.s;
+    }
+
+    /**
+     * Solves a board using iterative deepening A* with a specified heuristic.  Uses almost no memory, but revisits
+     * nodes on every iteration
+     *
+     * @param heuristicType either h1 or h2.  h1 is number of misplaced tiles, h2 is sum of Manhattan distance of all tiles from goal state
+     * @param start         Board to start search from (left unchanged)
+     * @return The result of the search and the number of nodes visited, or an empty string and -1 if no solution was found
+     */
+    public static Experiments.Pair idaStarStats(String heuristicType, Board start) {
+        Board board = new Board();
+        board.setState(new ArrayList<>(start.getState()));
+        IdaSearch search = new IdaSearch(board, heuristicType.equals("h1"), start.getMaxNodes());
+
+        int bound = search.heuristic();
+        while (true) {
+            int t = search.search(0, bound, ' ');
+            if (t == IdaSearch.FOUND) return new Experiments.Pair(search.path.toString(), search.nVisited);
+            if (search.stopped || t == Integer.MAX_VALUE) return new Experiments.Pair("", -1);
+            bound = t;
+        }
+    }
+
+    /**
+     * Holds the state of a single iterative deepening A* search
+     */
+    private static class IdaSearch {
+        //returned by search when the goal has been reached
+        private static final int FOUND = -1;
+
+        private final Board board;
+        private final boolean misplaced;
+        private final int maxNodes;
+        private final StringBuilder path = new StringBuilder();
+        private int nVisited = 0;
+        //true once maxNodes is exceeded or the thread is interrupted
+        private boolean stopped = false;
+
+        IdaSearch(Board board, boolean misplaced, int maxNodes) {
+            this.board = board;
+            this.misplaced = misplaced;
+            this.maxNodes = maxNodes;
+        }
+
+        int heuristic() {
+            return misplaced ? board.nMisplaced() : board.manhattanDistance();
+        }
+
+        /**
+         * Depth first search from the current board, cut off where g + h exceeds bound
+         *
+         * @param g     path cost to the current board
+         * @param bound largest f value to explore
+         * @param last  previous move, which is never undone
+         * @return FOUND if the goal was reached (the moves are in path), otherwise the smallest f value over the bound
+         */
+        int search(int g, int bound, char last) {
+            int f = g + heuristic();
+            if (f > bound) return f;
+            if (board.getState().equals(Board.GOALPOSITIONS)) return FOUND;
+            if (++nVisited >= maxNodes || Thread.currentThread().isInterrupted()) {
+                stopped = true;
+                return Integer.MAX_VALUE;
+            }
+
+            int min = Integer.MAX_VALUE;
+            for (char move : board.possibleMoves()) {
+                if (move == board.invertMove(last)) continue;
+                board.applyMoves(String.valueOf(move));
+                path.append(move);
+                int t = search(g + 1, bound, move);
+                if (t == FOUND) return FOUND;
+                board.applyMoves(String.valueOf(board.invertMove(move)));
+                path.setLength(path.length() - 1);
+                if (stopped) return Integer.MAX_VALUE;
+                min = Math.min(min, t);
+            }
+            return min;
+        }
+    }
+}
@@ -0,0 +1,386 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Breadth first sweep of the whole state space that keeps each layer on disk instead of in memory.
+ * Children of a layer are collected into sorted runs of packed states, and the runs are merged while removing
+ * duplicates and anything already in the previous two layers (delayed duplicate detection).  At most FAN_IN runs are
+ * open at once, so when a layer produces more runs they are first merged in groups into longer intermediate runs.
+ * In symmetric mode only canonical states (see Symmetry) are stored, which halves the size of every file
+ */
+public class StateSpaceSweep {
+    //size of the buffer used for each open file
+    private static final int BUFFER_BYTES = 1 << 16;
+    //largest number of runs merged at once, which bounds the open files (and their buffers) during a merge
+    private static final int FAN_IN = 16;
+    //moves tried from every state
+    private static final char[] MOVES = {'l', 'r', 'u', 'd'};
+
+    //directory that holds the layer, run and output files
+    private final Path dir;
+    //maximum number of states held in memory while generating a layer
+    private final int runSize;
+    //whether states are reduced to their canonical form
+    private final boolean symmetric;
+
+    /**
+     * @param dir     directory to write layer files and output to
+     * @param runSize maximum number of states to hold in memory at once
+     */
+    public StateSpaceSweep(Path dir, int runSize) {
+        this(dir, runSize, false);
+    }
+
+    /**
+     * @param dir       directory to write layer files and output to
+     * @param runSize   maximum number of states to hold in memory at once
+     * @param symmetric true to store only canonical states (the start state must then be its own mirror, like the goal)
+     */
+    public StateSpaceSweep(Path dir, int runSize, boolean symmetric) {
+        if (runSize < MOVES.length) {
+            throw new IllegalArgumentException("Run size must be at least " + MOVES.length);
+        }
+        this.dir = dir;
+        this.runSize = runSize;
+        this.symmetric = symmetric;
+    }
+
+    /**
+     * Runs the sweep, writing histogram.csv (depth,count) and distances.bin (each state written by
+     * BoardCodec.putState followed by its depth as a byte, ordered by depth) to the output directory.  In symmetric mode the distance file holds only
+     * canonical states, but the histogram still counts every state
+     *
+     * @param start packed state to start the sweep from (usually Board.GOALPACKED)
+     * @return list with the value at index i being the number of states at distance i from start
+     * @throws IOException              if any of the files cannot be read or written
+     * @throws IllegalArgumentException if the sweep is symmetric and start is not its own mirror
+     */
+    public List<Long> run(long start) throws IOException, IllegalArgumentException {
+        if (symmetric && Symmetry.mirror(start) != start) {
+            throw new IllegalArgumentException("A symmetric sweep must start from a state that is its own mirror");
+        }
+        Files.createDirectories(dir);
+        List<Long> histogram = new ArrayList<>();
+
+        Path distances = dir.resolve("distances.bin");
+        try (RecordWriter out = new RecordWriter(distances)) {
+            Path older = null;
+            Path previous = layerFile(0);
+            try (RecordWriter w = new RecordWriter(previous)) {
+                w.writeLong(start);
+            }
+            writeDistance(out, start, 0);
+            histogram.add(1L);
+
+            for (int depth = 1; ; depth++) {
+                List<Path> runs = reduce(expand(previous, depth), depth);
+                Path current = layerFile(depth);
+                long count = merge(runs, previous, older, current, out, depth);
+                for (Path run : runs) Files.delete(run);
+                if (older != null) Files.delete(older);
+
+                if (count == 0) {
+                    Files.delete(previous);
+                    Files.delete(current);
+                    break;
+                }
+                histogram.add(count);
+                older = previous;
+                previous = current;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder("depth,count\n");
+        for (int i = 0; i < histogram.size(); i++) sb.append(i).append(',').append(histogram.get(i)).append('\n');
+        Files.write(dir.resolve("histogram.csv"), sb.toString().getBytes());
+        return histogram;
+    }
+
+    /**
+     * Generates all children of a layer, writing them out as sorted runs without duplicates
+     *
+     * @param layer file holding the layer to expand
+     * @param depth depth of the children, used to name the run files
+     * @return the run files that were written
+     */
+    private List<Path> expand(Path layer, int depth) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        long[] buffer = new long[runSize];
+        int size = 0;
+        try (RecordReader in = new RecordReader(layer)) {
+            while (in.hasNext()) {
+                if (size > runSize - MOVES.length) {
+                    runs.add(writeRun(buffer, size, depth, runs.size()));
+                    size = 0;
+                }
+                long state = in.next();
+                for (char move : MOVES) {
+                    long child = Board.packedMove(state, move);
+                    if (child != -1) buffer[size++] = symmetric ? Symmetry.canonical(child) : child;
+                }
+            }
+        }
+        if (size > 0) runs.add(writeRun(buffer, size, depth, runs.size()));
+        return runs;
+    }
+
+    /**
+     * Sorts part of a buffer and writes it to a run file, skipping repeated states
+     */
+    private Path writeRun(long[] buffer, int size, int depth, int index) throws IOException {
+        Arrays.sort(buffer, 0, size);
+        Path run = dir.resolve("run-" + depth + "-" + index + ".bin");
+        try (RecordWriter w = new RecordWriter(run)) {
+            for (int i = 0; i < size; i++) {
+                if (i == 0 || buffer[i] != buffer[i - 1]) w.writeLong(buffer[i]);
+            }
+        }
+        return run;
+    }
+
+    /**
+     * Merges groups of at most FAN_IN runs into longer runs until no more than FAN_IN are left, deleting the
+     * runs that were merged
+     *
+     * @param runs  sorted run files
+     * @param depth depth of the states in the runs, used to name the merged files
+     * @return the run files that are left
+     */
+    private List<Path> reduce(List<Path> runs, int depth) throws IOException {
+        for (int pass = 0; runs.size() > FAN_IN; pass++) {
+            List<Path> merged = new ArrayList<>();
+            for (int i = 0; i < runs.size(); i += FAN_IN) {
+                List<Path> group = runs.subList(i, Math.min(runs.size(), i + FAN_IN));
+                Path run = dir.resolve("merge-" + depth + "-" + pass + "-" + merged.size() + ".bin");
+                try (RunMerger in = new RunMerger(group);
+                     RecordWriter w = new RecordWriter(run)) {
+                    while (in.hasNext()) w.writeLong(in.next());
+                }
+                for (Path p : group) Files.delete(p);
+                merged.add(run);
+            }
+            runs = merged;
+        }
+        return runs;
+    }
+
+    /**
+     * Merges the runs into a single sorted layer, dropping repeats and any state found in the previous two layers
+     *
+     * @param runs     sorted run files holding the candidate states (at most FAN_IN)
+     * @param previous the layer the runs were generated from
+     * @param older    the layer before previous, or null if there is none
+     * @param layer    file to write the new layer to
+     * @param out      writer for the distance file
+     * @param depth    depth of the new layer
+     * @return the number of states in the new layer (counting both members of a symmetry class)
+     */
+    private long merge(List<Path> runs, Path previous, Path older, Path layer, RecordWriter out, int depth) throws IOException {
+        long count = 0;
+        try (RunMerger in = new RunMerger(runs);
+             RecordReader p1 = new RecordReader(previous);
+             RecordReader p2 = older == null ? null : new RecordReader(older);
+             RecordWriter w = new RecordWriter(layer)) {
+            while (in.hasNext()) {
+                long state = in.next();
+                if (p1.skipTo(state) || (p2 != null && p2.skipTo(state))) continue;
+                w.writeLong(state);
+                writeDistance(out, state, depth);
+                count += symmetric ? Symmetry.classSize(state) : 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes one record of the distance file
+     */
+    private static void writeDistance(RecordWriter out, long state, int depth) throws IOException {
+        ByteBuffer buffer = out.reserve(BoardCodec.STATE_BYTES + 1);
+        BoardCodec.putState(buffer, state);
+        buffer.put((byte) depth);
+    }
+
+    /**
+     * @return the file used to store the layer at the given depth
+     */
+    private Path layerFile(int depth) {
+        return dir.resolve("layer-" + depth + ".bin");
+    }
+
+    /**
+     * Buffered reader for a file of longs
+     */
+    private static class RecordReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+        RecordReader(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            buffer.flip();
+        }
+
+        /**
+         * @return true if there is at least one more long to read
+         */
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() >= Long.BYTES) return true;
+            buffer.compact();
+            while (buffer.position() < Long.BYTES && channel.read(buffer) > 0) ;
+            buffer.flip();
+            return buffer.remaining() >= Long.BYTES;
+        }
+
+        /**
+         * @return the next long without advancing (hasNext must have returned true)
+         */
+        long peek() {
+            return buffer.getLong(buffer.position());
+        }
+
+        /**
+         * @return the next long (hasNext must have returned true)
+         */
+        long next() {
+            return buffer.getLong();
+        }
+
+        /**
+         * Advances past all values smaller than state (the file must be sorted)
+         *
+         * @param state value to look for
+         * @return true if the file contains state
+         */
+        boolean skipTo(long state) throws IOException {
+            while (hasNext() && peek() < state) next();
+            return hasNext() && peek() == state;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reads several sorted run files as one sorted sequence, returning each state only once
+     */
+    private static class RunMerger implements Closeable {
+        private final List<RecordReader> readers = new ArrayList<>();
+        //readers are ordered by the state they will return next
+        private final PriorityQueue<RecordReader> heads = new PriorityQueue<>((r1, r2) -> Long.compare(r1.peek(), r2.peek()));
+        //last state returned by next
+        private long last = -1;
+
+        RunMerger(List<Path> runs) throws IOException {
+            try {
+                for (Path run : runs) {
+                    RecordReader r = new RecordReader(run);
+                    readers.add(r);
+                    if (r.hasNext()) heads.add(r);
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * @return true if there is at least one more state that has not been returned yet
+         */
+        boolean hasNext() throws IOException {
+            while (!heads.isEmpty() && heads.peek().peek() == last) advance();
+            return !heads.isEmpty();
+        }
+
+        /**
+         * @return the next state (hasNext must have returned true)
+         */
+        long next() throws IOException {
+            last = advance();
+            return last;
+        }
+
+        /**
+         * Takes the smallest state from the runs
+         */
+        private long advance() throws IOException {
+            RecordReader r = heads.poll();
+            long state = r.next();
+            if (r.hasNext()) heads.add(r);
+            return state;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (RecordReader r : readers) r.close();
+        }
+    }
+
+    /**
+     * Buffered writer for a file of longs and other records
+     */
+    private static class RecordWriter implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+        RecordWriter(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void writeLong(long value) throws IOException {
+            reserve(Long.BYTES).putLong(value);
+        }
+
+        /**
+         * @return the buffer, after making sure it has room for the given number of bytes
+         */
+        ByteBuffer reserve(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) flush();
+            return buffer;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            channel.close();
+        }
+    }
+
+    /**
+     * Sweeps the 8-puzzle from the solved state and prints the number of states at each distance
+     *
+     * @param args can be empty, or the output directory followed optionally by the run size and "symmetric"
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = args.length > 0 ? Paths.get(args[0]) : Files.createTempDirectory("sweep");
+        int runSize = args.length > 1 ? Integer.parseInt(args[1]) : 1 << 16;
+        boolean symmetric = args.length > 2 && args[2].equals("symmetric");
+        List<Long> histogram = new StateSpaceSweep(dir, runSize, symmetric).run(Board.GOALPACKED);
+        long total = 0;
+        for (int i = 0; i < histogram.size(); i++) {
+            System.out.println(i + ":  " + histogram.get(i));
+            total += histogram.get(i);
+        }
+        System.out.println("total:  " + total + " (" + dir + ")");
+    }
+}
@@ -0,0 +1,92 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+/**
+ * Class to reduce packed states by the reflection symmetry of the goal state.
+ * Reflecting the board across the main diagonal and swapping the labels of pieces 1 and 3, 2 and 6, and 5 and 7, maps the goal to
+ * itself, so a state and its mirror always have the same solution length, and a solution for one becomes a solution
+ * for the other by swapping u with l and d with r
+ */
+public class Symmetry {
+    //square (and piece) each square (and piece) is sent to by the reflection
+    private static final int[] TRANSPOSE = {0, 3, 6, 1, 4, 7, 2, 5, 8};
+
+    /**
+     * Reflects a packed state across the main diagonal
+     *
+     * @param packed state created by Board.pack()
+     * @return the packed mirror image of the state
+     */
+    public static long mirror(long packed) {
+        long out = 0;
+        for (int i = 0; i < 9; i++) {
+            int pos = (int) ((packed >>> (4 * i)) & 0xF);
+            out |= (long) TRANSPOSE[pos] << (4 * TRANSPOSE[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Finds the representative of the state's symmetry class (the smaller of the state and its mirror)
+     *
+     * @param packed state created by Board.pack()
+     * @return the canonical packed state
+     */
+    public static long canonical(long packed) {
+        return Math.min(packed, mirror(packed));
+    }
+
+    /**
+     * @param packed state created by Board.pack()
+     * @return true if canonical(packed) is the mirror of packed rather than packed itself
+     */
+    public static boolean isMirrored(long packed) {
+        return mirror(packed) < packed;
+    }
+
+    /**
+     * @param packed state created by Board.pack()
+     * @return 1 if the state is its own mirror, otherwise 2
+     */
+    public static int classSize(long packed) {
+        return mirror(packed) == packed ? 1 : 2;
+    }
+
+    /**
+     * Translates moves between a state and its mirror
+     *
+     * @param moves String of moves (u,d,l,r)
+     * @return the same moves with u and l swapped, and d and r swapped
+     */
+    public static String mirrorMoves(String moves) {
+        char[] out = moves.toCharArray();
+        for (int i = 0; i < out.length; i++) {
+            switch (out[i]) {
+                case 'u':
+                    out[i] = 'l';
+                    break;
+                case 'l':
+                    out[i] = 'u';
+                    break;
+                case 'd':
+                    out[i] = 'r';
+                    break;
+                case 'r':
+                    out[i] = 'd';
+                    break;
+            }
+        }
+        return new String(out);
+    }
+
+    /**
+     * Translates moves that solve canonical(packed) into moves that solve packed
+     *
+     * @param packed    state the solution is wanted for
+     * @param canonical solution found for canonical(packed)
+     * @return solution for packed
+     */
+    public static String fromCanonical(long packed, String canonical) {
+        return isMirrored(packed) ? mirrorMoves(canonical) : canonical;
+    }
+}
@@ -0,0 +1,58 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API versions of the batch heuristics, with one packed state per lane.  Only loaded by BatchHeuristics when
+ * the jdk.incubator.vector module is present and the eightpuzzle.batch property is set to vector
+ */
+public class VectorHeuristics {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * Computes h2 for a batch of states, see BatchHeuristics.manhattan
+     */
+    public static void manhattan(long[] states, int n, int[] out) {
+        long[] lanes = new long[SPECIES.length()];
+        int upper = SPECIES.loopBound(n);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            LongVector v = LongVector.fromArray(SPECIES, states, i);
+            LongVector total = LongVector.zero(SPECIES);
+            for (int piece = 1; piece < 9; piece++) {
+                LongVector square = v.lanewise(VectorOperators.LSHR, 4 * piece).and(0xF);
+                //square / 3 for squares 0-8, without a division
+                LongVector row = square.mul(11).lanewise(VectorOperators.LSHR, 5);
+                LongVector col = square.sub(row.mul(3));
+                total = total.add(row.sub(piece / 3).abs()).add(col.sub(piece % 3).abs());
+            }
+            total.intoArray(lanes, 0);
+            for (int j = 0; j < lanes.length; j++) out[i + j] = (int) lanes[j];
+        }
+        BatchHeuristics.scalarManhattan(states, i, n, out);
+    }
+
+    /**
+     * Computes h1 for a batch of states, see BatchHeuristics.misplaced
+     */
+    public static void misplaced(long[] states, int n, int[] out) {
+        long[] lanes = new long[SPECIES.length()];
+        int upper = SPECIES.loopBound(n);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            LongVector v = LongVector.fromArray(SPECIES, states, i);
+            LongVector total = LongVector.zero(SPECIES);
+            for (int piece = 1; piece < 9; piece++) {
+                VectorMask<Long> wrong = v.lanewise(VectorOperators.LSHR, 4 * piece).and(0xF).compare(VectorOperators.NE, piece);
+                total = total.add(1, wrong);
+            }
+            total.intoArray(lanes, 0);
+            for (int j = 0; j < lanes.length; j++) out[i + j] = (int) lanes[j];
+        }
+        BatchHeuristics.scalarMisplaced(states, i, n, out);
+    }
+}
@@ -0,0 +1,72 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the scalar and Vector API batch heuristics agree with Board
+ */
+public class BatchHeuristicsTest {
+    //not a multiple of any vector length, so the scalar tail of the vector kernels is used too
+    private static final int N = 100_003;
+
+    /**
+     * @return n random arrangements, solvable or not
+     */
+    private static long[] states(int n) {
+        SplittableRandom random = new SplittableRandom(29);
+        long[] states = new long[n];
+        for (int i = 0; i < n; i++) states[i] = BoardGenerator.unrank(random.nextInt(362880));
+        return states;
+    }
+
+    @Test
+    public void scalarMatchesBoard() {
+        long[] states = states(N);
+        int[] h1 = new int[N];
+        int[] h2 = new int[N];
+        BatchHeuristics.scalarMisplaced(states, 0, N, h1);
+        BatchHeuristics.scalarManhattan(states, 0, N, h2);
+        for (int i = 0; i < N; i++) {
+            Board b = Board.unpack(states[i]);
+            assertEquals(b.nMisplaced(), h1[i]);
+            assertEquals(b.manhattanDistance(), h2[i]);
+            assertEquals(h2[i], BatchHeuristics.manhattan(states[i]));
+        }
+    }
+
+    @Test
+    public void vectorMatchesScalar() {
+        long[] states = states(N);
+        //short batches are handled entirely by the scalar tail
+        for (int n : new int[]{0, 1, 3, 17, N}) {
+            int[] scalar = new int[n];
+            int[] vector = new int[n];
+            BatchHeuristics.scalarManhattan(states, 0, n, scalar);
+            VectorHeuristics.manhattan(states, n, vector);
+            assertArrayEquals(scalar, vector);
+
+            BatchHeuristics.scalarMisplaced(states, 0, n, scalar);
+            VectorHeuristics.misplaced(states, n, vector);
+            assertArrayEquals(scalar, vector);
+        }
+    }
+
+    @Test
+    public void batchMatchesScalar() {
+        long[] states = states(N);
+        int[] scalar = new int[N];
+        int[] batch = new int[N];
+        BatchHeuristics.scalarManhattan(states, 0, N, scalar);
+        BatchHeuristics.manhattan(states, N, batch);
+        assertArrayEquals(scalar, batch);
+
+        BatchHeuristics.scalarMisplaced(states, 0, N, scalar);
+        BatchHeuristics.misplaced(states, N, batch);
+        assertArrayEquals(scalar, batch);
+    }
+}
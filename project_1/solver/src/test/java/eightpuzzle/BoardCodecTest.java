@@ -0,0 +1,78 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round trip tests for BoardCodec
+ */
+public class BoardCodecTest {
+    private static final int N_ARRANGEMENTS = 362880;
+
+    @Test
+    public void rankInvertsUnrank() {
+        for (int i = 0; i < N_ARRANGEMENTS; i++) assertEquals(i, BoardCodec.rank(BoardGenerator.unrank(i)));
+    }
+
+    @Test
+    public void stateRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(BoardCodec.STATE_BYTES * N_ARRANGEMENTS);
+        for (int i = 0; i < N_ARRANGEMENTS; i++) BoardCodec.putState(buffer, BoardGenerator.unrank(i));
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+        for (int i = 0; i < N_ARRANGEMENTS; i++) assertEquals(BoardGenerator.unrank(i), BoardCodec.getState(buffer));
+    }
+
+    @Test
+    public void statesRoundTrip() {
+        //odd counts leave a partial byte at the end
+        for (int n : new int[]{0, 1, 7, 1001}) {
+            long[] states = new BoardGenerator(n).generate(n);
+            ByteBuffer buffer = ByteBuffer.allocate(BoardCodec.statesBytes(n));
+            BoardCodec.putStates(buffer, states, n);
+            assertFalse(buffer.hasRemaining());
+            buffer.flip();
+            long[] out = new long[n];
+            BoardCodec.getStates(buffer, out, n);
+            assertArrayEquals(states, out);
+        }
+    }
+
+    @Test
+    public void invalidStatesAreRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(BoardCodec.statesBytes(2));
+        //square 9 does not exist, a repeated square, and a bit above the 9 pieces
+        for (long packed : new long[]{0x876543219L, 0x876543211L, 0x1876543210L, -1L}) {
+            assertThrows(IllegalArgumentException.class, () -> BoardCodec.putState(buffer, packed));
+            assertThrows(IllegalArgumentException.class, () -> BoardCodec.putStates(buffer, new long[]{packed}, 1));
+        }
+    }
+
+    @Test
+    public void state16RoundTrip() {
+        long packed = 0xFEDCBA9876543210L;
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        BoardCodec.putState16(buffer, packed);
+        buffer.flip();
+        assertEquals(packed, BoardCodec.getState16(buffer));
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.putState16(ByteBuffer.allocate(Long.BYTES), 0xFEDCBA9876543211L));
+    }
+
+    @Test
+    public void movesRoundTrip() {
+        String all = "uldrrdluuurrddll";
+        for (int length = 0; length <= all.length(); length++) {
+            String moves = all.substring(0, length);
+            ByteBuffer buffer = ByteBuffer.allocate(BoardCodec.movesBytes(length));
+            BoardCodec.putMoves(buffer, moves);
+            assertFalse(buffer.hasRemaining());
+            buffer.flip();
+            assertEquals(moves, BoardCodec.getMoves(buffer));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.putMoves(ByteBuffer.allocate(8), "ux"));
+    }
+}
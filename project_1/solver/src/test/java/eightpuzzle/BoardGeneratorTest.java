@@ -0,0 +1,55 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BoardGenerator
+ */
+public class BoardGeneratorTest {
+    private static final int N_SOLVABLE = 181440;
+
+    @Test
+    public void statesAreSolvableAndUniform() {
+        int n = 4_000_000;
+        long[] states = new BoardGenerator(1).generate(n);
+        int[] blank = new int[9];
+        Set<Long> distinct = new HashSet<>();
+        for (long packed : states) {
+            assertTrue(BoardGenerator.isSolvable(packed));
+            blank[(int) (packed & 0xF)]++;
+            distinct.add(packed);
+        }
+        //about 22 draws per state, so every state should have come up
+        assertEquals(N_SOLVABLE, distinct.size());
+        for (int count : blank) assertEquals(n / 9.0, count, n / 9.0 * 0.01);
+    }
+
+    @Test
+    public void sameSeedGivesSameStates() {
+        assertArrayEquals(new BoardGenerator(7).generate(100_000), new BoardGenerator(7).generate(100_000));
+        assertFalse(Arrays.equals(new BoardGenerator(7).generate(100), new BoardGenerator(8).generate(100)));
+    }
+
+    @Test
+    public void statesAreInDifficultyRange() {
+        BoardGenerator generator = new BoardGenerator(3, 20, BoardGenerator.MAX_H2);
+        for (int i = 0; i < 1000; i++) {
+            int h2 = BatchHeuristics.manhattan(generator.next());
+            assertTrue(h2 >= 20 && h2 <= BoardGenerator.MAX_H2);
+        }
+    }
+
+    @Test
+    public void impossibleRangesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(0, 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(0, BoardGenerator.MAX_H2 + 1, 40));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(0, -5, -1));
+    }
+}
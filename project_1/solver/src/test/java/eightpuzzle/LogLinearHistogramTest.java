@@ -0,0 +1,58 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for LogLinearHistogram
+ */
+public class LogLinearHistogramTest {
+    @Test
+    public void smallValuesAreExact() {
+        LogLinearHistogram h = new LogLinearHistogram();
+        for (int i = 1; i <= 30; i++) h.record(i);
+        assertEquals(1, h.percentile(0));
+        assertEquals(15, h.percentile(50));
+        assertEquals(30, h.percentile(99));
+        assertEquals(30, h.percentile(100));
+        assertEquals(15.5, h.getMean(), 1e-9);
+    }
+
+    @Test
+    public void largeValuesAreWithinThreePercent() {
+        LogLinearHistogram h = new LogLinearHistogram();
+        for (long i = 1; i <= 100_000; i++) h.record(i * 1000);
+        assertEquals(50_000_000, h.percentile(50), 50_000_000 * 0.03);
+        assertEquals(99_000_000, h.percentile(99), 99_000_000 * 0.03);
+        assertEquals(100_000_000, h.percentile(100));
+        assertEquals(100_000_000, h.getMax());
+        assertEquals(100_000, h.getCount());
+    }
+
+    @Test
+    public void mergeMatchesRecordingEverything() {
+        LogLinearHistogram all = new LogLinearHistogram();
+        LogLinearHistogram even = new LogLinearHistogram();
+        LogLinearHistogram odd = new LogLinearHistogram();
+        for (long i = 0; i < 10_000; i++) {
+            long value = i * i;
+            all.record(value);
+            (i % 2 == 0 ? even : odd).record(value);
+        }
+        even.merge(odd);
+        for (double p : new double[]{0, 25, 50, 90, 99, 99.9, 100}) assertEquals(all.percentile(p), even.percentile(p));
+        assertEquals(all.getCount(), even.getCount());
+        assertEquals(all.getMean(), even.getMean(), 1e-9);
+        assertEquals(all.getMax(), even.getMax());
+    }
+
+    @Test
+    public void emptyAndNegative() {
+        LogLinearHistogram h = new LogLinearHistogram();
+        assertEquals(0, h.percentile(99));
+        assertEquals(0, h.getMean());
+        assertThrows(IllegalArgumentException.class, () -> h.record(-1));
+    }
+}
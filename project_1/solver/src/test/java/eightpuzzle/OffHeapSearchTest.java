@@ -0,0 +1,34 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the off heap A* search finds solutions as short as the heap one
+ */
+public class OffHeapSearchTest {
+    @Test
+    public void matchesHeapSearch() {
+        //the tests run with --enable-preview, so the off heap search must not fall back to the heap
+        assertTrue(Solver.OFF_HEAP_AVAILABLE);
+        BoardGenerator generator = new BoardGenerator(391);
+        for (int i = 0; i < 20; i++) {
+            Board start = generator.nextBoard();
+            //h1 needs far more than the default number of nodes on random boards
+            start.setMaxNodes(1_000_000);
+            for (String heuristic : new String[]{"h1", "h2"}) {
+                Experiments.Pair heap = Solver.aStarStats(heuristic, start);
+                Experiments.Pair offHeap = Solver.aStarStats(heuristic, start, true);
+                assertNotEquals(-1, heap.i);
+                assertNotEquals(-1, offHeap.i);
+                assertEquals(heap.s.length(), offHeap.s.length(), "length of solution for " + start.pack());
+
+                Board end = Board.unpack(start.pack());
+                end.applyMoves(offHeap.s);
+                assertEquals(Board.GOALPACKED, end.pack());
+            }
+        }
+    }
+}
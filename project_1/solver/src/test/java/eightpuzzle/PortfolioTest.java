@@ -0,0 +1,53 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Portfolio
+ */
+public class PortfolioTest {
+    @Test
+    public void optimalRaceOnlyAcceptsOptimalStrategies() {
+        BoardGenerator generator = new BoardGenerator(391);
+        for (int i = 0; i < 10; i++) {
+            Board start = generator.nextBoard();
+            start.setMaxNodes(1_000_000);
+            Portfolio.Result r = Portfolio.solveStats(start, true);
+            assertNotNull(r);
+            assertTrue(Portfolio.OPTIMAL.contains(r.strategy), r.strategy);
+            assertEquals(Solver.idaStarStats("h2", start).s.length(), r.pair.s.length());
+        }
+    }
+
+    @Test
+    public void losingStrategiesStop() {
+        //A-star h1 takes far longer than the winner on a hard board with a large node budget
+        Board start = new BoardGenerator(7, 20, BoardGenerator.MAX_H2).nextBoard();
+        start.setMaxNodes(10_000_000);
+        Portfolio.Result r = Portfolio.solveStats(start, false);
+        assertNotNull(r);
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            assertFalse(t.getName().equals("portfolio") && t.isAlive(), "a strategy is still running");
+        }
+    }
+
+    @Test
+    public void winsAreCounted() {
+        Board start = new BoardGenerator(3).nextBoard();
+        start.setMaxNodes(1_000_000);
+        int before = Portfolio.getWins().values().stream().mapToInt(Integer::intValue).sum();
+        Portfolio.Result r = Portfolio.solveStats(start, false);
+        assertNotNull(r);
+        assertEquals(before + 1, Portfolio.getWins().values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(Portfolio.getWins().get(r.strategy) > 0);
+    }
+
+    @Test
+    public void unknownStrategiesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Portfolio.run("DFS h2", new Board()));
+        assertThrows(IllegalArgumentException.class, () -> Portfolio.run("A-star", new Board()));
+    }
+}
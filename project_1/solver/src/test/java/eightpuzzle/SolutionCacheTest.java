@@ -0,0 +1,110 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that SolutionCache stays optimal as the board moves between solves
+ */
+public class SolutionCacheTest {
+    private static final int MAX_NODES = 1_000_000;
+
+    /**
+     * @return a copy of the board after applying the moves, with a large node limit
+     */
+    private static Board moved(Board b, String moves) {
+        Board out = Board.unpack(b.pack());
+        out.applyMoves(moves);
+        out.setMaxNodes(MAX_NODES);
+        return out;
+    }
+
+    /**
+     * Checks that the solution is valid and as short as the one found by A*
+     */
+    private static void assertOptimal(Board b, Experiments.Pair p) {
+        assertNotEquals(-1, p.i);
+        assertEquals(Board.GOALPACKED, moved(b, p.s).pack());
+        assertEquals(Solver.aStarStats("h2", moved(b, "")).s.length(), p.s.length());
+    }
+
+    @Test
+    public void movesAlongSolutionNeedNoSearch() {
+        BoardGenerator generator = new BoardGenerator(31, 15, BoardGenerator.MAX_H2);
+        for (int i = 0; i < 10; i++) {
+            SolutionCache cache = new SolutionCache();
+            Board b = moved(generator.nextBoard(), "");
+            Experiments.Pair p = cache.solve("h2", b);
+            assertOptimal(b, p);
+            for (int j = 1; j <= p.s.length(); j++) {
+                Experiments.Pair q = cache.solve("h2", moved(b, p.s.substring(0, j)));
+                assertEquals(0, q.i);
+                assertEquals(p.s.substring(j), q.s);
+            }
+            //back to the start, which was closed by the first solve
+            assertEquals(0, cache.solve("h2", b).i);
+        }
+    }
+
+    @Test
+    public void movesOffSolutionStayOptimal() {
+        BoardGenerator generator = new BoardGenerator(32, 15, BoardGenerator.MAX_H2);
+        SolutionCache cache = new SolutionCache();
+        for (int i = 0; i < 10; i++) {
+            Board b = moved(generator.nextBoard(), "");
+            Experiments.Pair p = cache.solve("h2", b);
+            assertOptimal(b, p);
+            //walk a few moves away from the solution, solving after each one
+            for (int j = 0; j < 3; j++) {
+                char move = 0;
+                for (char m : b.possibleMoves()) if (m != p.s.charAt(0)) move = m;
+                b = moved(b, String.valueOf(move));
+                p = cache.solve("h2", b);
+                assertOptimal(b, p);
+            }
+        }
+    }
+
+    @Test
+    public void mirroredStatesShareSearch() {
+        BoardGenerator generator = new BoardGenerator(33, 15, BoardGenerator.MAX_H2);
+        for (int i = 0; i < 10; i++) {
+            SolutionCache cache = new SolutionCache();
+            Board b = moved(generator.nextBoard(), "");
+            cache.solve("h2", b);
+            Board mirror = Board.unpack(Symmetry.mirror(b.pack()));
+            mirror.setMaxNodes(MAX_NODES);
+            Experiments.Pair p = cache.solve("h2", mirror);
+            assertEquals(0, p.i);
+            assertOptimal(mirror, p);
+            assertEquals(p.s, cache.lookup(mirror));
+        }
+    }
+
+    @Test
+    public void changingHeuristicStaysOptimal() {
+        BoardGenerator generator = new BoardGenerator(34, 10, 16);
+        SolutionCache cache = new SolutionCache();
+        for (int i = 0; i < 10; i++) {
+            Board b = moved(generator.nextBoard(), "");
+            assertOptimal(b, cache.solve(i % 2 == 0 ? "h1" : "h2", b));
+        }
+    }
+
+    @Test
+    public void unsolvableAndClear() {
+        SolutionCache cache = new SolutionCache();
+        //swapping two tiles makes the board unsolvable
+        Board unsolvable = Board.unpack(0x876543120L);
+        assertEquals(-1, cache.solve("h2", unsolvable).i);
+
+        Board b = moved(new BoardGenerator(35).nextBoard(), "");
+        String moves = cache.solve("h2", b).s;
+        assertEquals(moves, cache.lookup(b));
+        cache.clear();
+        assertNull(cache.lookup(b));
+        assertEquals("", cache.lookup(new Board()));
+    }
+}
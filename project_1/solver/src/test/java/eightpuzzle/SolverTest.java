@@ -0,0 +1,37 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the searches in Solver
+ */
+public class SolverTest {
+    @Test
+    public void idaStarMatchesAStar() {
+        BoardGenerator generator = new BoardGenerator(28);
+        for (int i = 0; i < 20; i++) {
+            Board start = generator.nextBoard();
+            start.setMaxNodes(1_000_000);
+            Experiments.Pair aStar = Solver.aStarStats("h2", start);
+            Experiments.Pair ida = Solver.idaStarStats("h2", start);
+            assertNotEquals(-1, aStar.i);
+            assertNotEquals(-1, ida.i);
+            assertEquals(aStar.s.length(), ida.s.length());
+
+            Board end = Board.unpack(start.pack());
+            end.applyMoves(ida.s);
+            assertEquals(Board.GOALPACKED, end.pack());
+        }
+    }
+
+    @Test
+    public void idaStarLeavesStartUnchanged() {
+        Board start = new BoardGenerator(5).nextBoard();
+        long packed = start.pack();
+        Solver.idaStarStats("h2", start);
+        assertEquals(packed, start.pack());
+    }
+}
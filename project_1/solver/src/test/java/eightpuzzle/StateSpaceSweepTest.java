@@ -0,0 +1,55 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that StateSpaceSweep finds the known distance distribution of the 8-puzzle
+ */
+public class StateSpaceSweepTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void histogramMatchesKnownDistribution() throws IOException {
+        List<Long> histogram = new StateSpaceSweep(dir, 1 << 16).run(Board.GOALPACKED);
+        assertEquals(32, histogram.size());
+        assertEquals(1L, histogram.get(0));
+        assertEquals(2L, histogram.get(1));
+        assertEquals(2L, histogram.get(31));
+        assertEquals(181440L, histogram.stream().mapToLong(Long::longValue).sum());
+        //one record per state
+        assertEquals(181440L * (BoardCodec.STATE_BYTES + 1), Files.size(dir.resolve("distances.bin")));
+    }
+
+    @Test
+    public void smallRunsGiveSameHistogram() throws IOException {
+        List<Long> large = new StateSpaceSweep(dir.resolve("large"), 1 << 16).run(Board.GOALPACKED);
+        //small runs give far more runs per layer than are merged at once
+        List<Long> small = new StateSpaceSweep(dir.resolve("small"), 64).run(Board.GOALPACKED);
+        assertEquals(large, small);
+    }
+
+    @Test
+    public void symmetricSweepWithSmallRunsMatchesPlainSweep() throws IOException {
+        List<Long> plain = new StateSpaceSweep(dir.resolve("plain"), 1 << 16).run(Board.GOALPACKED);
+        //small runs give far more runs per layer than are merged at once
+        List<Long> symmetric = new StateSpaceSweep(dir.resolve("symmetric"), 64, true).run(Board.GOALPACKED);
+        assertEquals(plain, symmetric);
+    }
+
+    @Test
+    public void symmetricSweepRejectsAsymmetricStart() {
+        long start = Board.packedMove(Board.GOALPACKED, 'r');
+        assertNotEquals(start, Symmetry.mirror(start));
+        assertThrows(IllegalArgumentException.class, () -> new StateSpaceSweep(dir, 1 << 16, true).run(start));
+    }
+}
@@ -0,0 +1,81 @@
+//Nikil Pancha (nrp49)
+package eightpuzzle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Symmetry
+ */
+public class SymmetryTest {
+    private static final int N_ARRANGEMENTS = 362880;
+    private static final String MOVES = "lrud";
+
+    @Test
+    public void goalIsItsOwnMirror() {
+        assertEquals(Board.GOALPACKED, Symmetry.mirror(Board.GOALPACKED));
+        assertEquals(1, Symmetry.classSize(Board.GOALPACKED));
+        assertFalse(Symmetry.isMirrored(Board.GOALPACKED));
+    }
+
+    @Test
+    public void mirrorIsAnInvolution() {
+        for (int i = 0; i < N_ARRANGEMENTS; i++) {
+            long packed = BoardGenerator.unrank(i);
+            long mirror = Symmetry.mirror(packed);
+            assertEquals(packed, Symmetry.mirror(mirror));
+            assertEquals(BoardGenerator.isSolvable(packed), BoardGenerator.isSolvable(mirror));
+            assertEquals(Symmetry.canonical(packed), Symmetry.canonical(mirror));
+            assertEquals(Symmetry.canonical(packed) != packed, Symmetry.isMirrored(packed));
+            assertEquals(packed == mirror ? 1 : 2, Symmetry.classSize(packed));
+        }
+    }
+
+    @Test
+    public void movesCommuteWithMirror() {
+        for (int i = 0; i < N_ARRANGEMENTS; i++) {
+            long packed = BoardGenerator.unrank(i);
+            for (char move : MOVES.toCharArray()) {
+                long child = Board.packedMove(packed, move);
+                long mirrored = Board.packedMove(Symmetry.mirror(packed), Symmetry.mirrorMoves(String.valueOf(move)).charAt(0));
+                assertEquals(child == -1 ? -1 : Symmetry.mirror(child), mirrored);
+            }
+        }
+    }
+
+    @Test
+    public void mirroredSolutionsSolveMirroredStates() {
+        assertEquals("uldr", Symmetry.mirrorMoves("lurd"));
+        SplittableRandom random = new SplittableRandom(27);
+        for (int i = 0; i < 1000; i++) {
+            //walk away from the goal, so undoing the walk solves the board
+            long packed = Board.GOALPACKED;
+            StringBuilder solution = new StringBuilder();
+            for (int j = 0; j < 40; j++) {
+                int code = random.nextInt(MOVES.length());
+                long next = Board.packedMove(packed, MOVES.charAt(code));
+                if (next == -1) continue;
+                packed = next;
+                solution.insert(0, MOVES.charAt(code ^ 1));
+            }
+            assertEquals(Board.GOALPACKED, apply(packed, solution.toString()));
+
+            String mirrored = Symmetry.mirrorMoves(solution.toString());
+            assertEquals(Board.GOALPACKED, apply(Symmetry.mirror(packed), mirrored));
+            //a solution for the canonical state translates back to one for the state
+            String canonical = Symmetry.isMirrored(packed) ? mirrored : solution.toString();
+            assertEquals(Board.GOALPACKED, apply(packed, Symmetry.fromCanonical(packed, canonical)));
+        }
+    }
+
+    /**
+     * @return the packed state after applying the moves, or -1 if one is not possible
+     */
+    private static long apply(long packed, String moves) {
+        for (int i = 0; i < moves.length() && packed != -1; i++) packed = Board.packedMove(packed, moves.charAt(i));
+        return packed;
+    }
+}